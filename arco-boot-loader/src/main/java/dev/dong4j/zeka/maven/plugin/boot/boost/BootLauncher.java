@@ -1,11 +1,13 @@
 package dev.dong4j.zeka.maven.plugin.boot.boost;
 
+import dev.dong4j.zeka.maven.plugin.boot.loader.ClassPathArtifacts;
 import dev.dong4j.zeka.maven.plugin.boot.loader.PropertiesLauncher;
 import dev.dong4j.zeka.maven.plugin.boot.loader.archive.Archive;
 import dev.dong4j.zeka.maven.plugin.boot.loader.archive.ExplodedArchive;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashSet;
@@ -81,6 +83,12 @@ public class BootLauncher extends PropertiesLauncher {
                 arguments.add(arg);
             }
         }
+        // 从 BootSlotter 生成的展开目录启动时使用 JDK 的 URLClassLoader
+        File explodedHome = ExplodedLauncher.findHome();
+        if (explodedHome != null) {
+            new ExplodedLauncher(explodedHome, root, paths).launch(arguments.toArray(new String[0]));
+            return;
+        }
         new BootLauncher(root, paths).launch(arguments.toArray(new String[0]));
     }
 
@@ -116,7 +124,15 @@ public class BootLauncher extends PropertiesLauncher {
         // patch 和 plugin 的 jar 优先级高于 lib
         allArchives.addAll(extendArchives);
         allArchives.addAll(archives);
-        return super.createClassLoader(new ArrayList<>(allArchives));
+        List<Archive> classPath = new ArrayList<>(allArchives);
+        if (ClassPathArtifacts.isEnabled()) {
+            // 同一个构件只保留优先级最高的一个, 例如 patch 中的 jar 覆盖 lib 中的同名构件
+            classPath = ClassPathArtifacts.deduplicate(classPath, this::debug);
+        }
+        ClassLoader classLoader = super.createClassLoader(classPath);
+        // 开启 loader.slot.watch 时, 运行期间放入 patch 和 plugin 的 jar 加载到新的 class loader 层
+        SlotWatcher.start(classLoader, this.root, this.paths);
+        return classLoader;
     }
 
 }
@@ -0,0 +1,266 @@
+package dev.dong4j.zeka.maven.plugin.boot.boost;
+
+import dev.dong4j.zeka.maven.plugin.boot.loader.ClassPathArtifacts;
+import dev.dong4j.zeka.maven.plugin.boot.loader.Launcher;
+import dev.dong4j.zeka.maven.plugin.boot.loader.MainMethodRunner;
+import dev.dong4j.zeka.maven.plugin.boot.loader.PropertiesLauncher;
+import dev.dong4j.zeka.maven.plugin.boot.loader.util.LaunchPhase;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.jar.Manifest;
+
+/**
+ * <p>Description: 从 BootSlotter 生成的展开目录启动应用 ({@code java -cp <dir> BootLauncher ...}), 目录结构如下:
+ * {@code BOOT-INF/classes/} 为应用 class, {@code lib/} 为普通 jar, {@link #CLASSPATH_INDEX} 按顺序列出 lib 下的 jar.
+ * 直接使用 JDK 的 {@link URLClassLoader} 和 {@code file:} URL 加载, 不注册嵌套 jar 的 URL Handler,
+ * 适用于镜像中已经解压的容器部署. classpath 顺序与 {@link BootLauncher} 一致:
+ * slot.path (patch/plugin) 优先, 然后是 loader.path, 最后是 BOOT-INF/classes 和索引中的 jar.
+ * 不使用 {@code Archive}, 创建 class loader 之后通过 {@link Launcher#launch(ClassLoader, MainMethodRunner)} 启动应用. </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 16:50
+ * @since 2026.1.0
+ */
+public class ExplodedLauncher {
+    /** 展开目录中的 classpath 索引, 每行一个相对于展开目录的 jar 路径 */
+    public static final String CLASSPATH_INDEX = "BOOT-INF/classpath.idx";
+    /** 展开目录中只包含启动器 class 的 jar, 动态 CDS 不支持非空目录作为 classpath, 使用 CDS 时以 {@code -cp launcher.jar} 启动 */
+    public static final String LAUNCHER_JAR = "launcher.jar";
+    /** BOOT_INF_CLASSES */
+    static final String BOOT_INF_CLASSES = "BOOT-INF/classes/";
+    /** MANIFEST_MF */
+    private static final String MANIFEST_MF = "META-INF/MANIFEST.MF";
+    /** START_CLASS_ATTRIBUTE */
+    private static final String START_CLASS_ATTRIBUTE = "Start-Class";
+    /** DOT_JAR */
+    private static final String DOT_JAR = ".jar";
+
+    /** 展开目录 */
+    private final File home;
+    /** Root */
+    private final String root;
+    /** Paths */
+    private final List<String> paths;
+
+    /**
+     * Exploded launcher
+     *
+     * @param home  展开目录
+     * @param root  slot root
+     * @param paths slot paths
+     * @since 2026.1.0
+     */
+    public ExplodedLauncher(File home, String root, List<String> paths) {
+        this.home = home;
+        this.root = root;
+        this.paths = paths;
+    }
+
+    /**
+     * 当前从包含 {@link #CLASSPATH_INDEX} 的目录 (或者该目录下的 {@link #LAUNCHER_JAR}) 启动时返回该目录, 从 jar 启动时返回 {@code null}
+     *
+     * @return the file
+     * @since 2026.1.0
+     */
+    static File findHome() {
+        try {
+            CodeSource codeSource = ExplodedLauncher.class.getProtectionDomain().getCodeSource();
+            if (codeSource == null || codeSource.getLocation() == null) {
+                return null;
+            }
+            return findHome(new File(codeSource.getLocation().toURI()));
+        } catch (Exception ex) {
+            return null;
+        }
+    }
+
+    /**
+     * 启动器 class 所在位置对应的展开目录
+     *
+     * @param location 启动器 class 所在的目录或者 {@link #LAUNCHER_JAR}
+     * @return the file, 不是展开目录时返回 {@code null}
+     * @since 2026.1.0
+     */
+    static File findHome(@NotNull File location) {
+        File home = (location.isFile() && LAUNCHER_JAR.equals(location.getName()))
+            ? location.getAbsoluteFile().getParentFile() : location;
+        return home != null && home.isDirectory() && new File(home, CLASSPATH_INDEX).isFile() ? home : null;
+    }
+
+    /**
+     * 不注册嵌套 jar 的 URL Handler, 直接使用 {@code file:} URL 创建类加载器
+     *
+     * @param args args
+     * @throws Exception exception
+     * @since 2026.1.0
+     */
+    @SuppressWarnings("try")
+    void launch(String[] args) throws Exception {
+        List<URL> urls;
+        try (LaunchPhase.Timing ignored = LaunchPhase.ARCHIVES.start()) {
+            urls = this.getClassPathUrls();
+        }
+        this.debug("Classpath: " + urls);
+        ClassLoader classLoader;
+        try (LaunchPhase.Timing ignored = LaunchPhase.CLASS_LOADER.start()) {
+            classLoader = this.createClassLoader(urls.toArray(new URL[0]));
+            SlotWatcher.start(classLoader, this.root, this.paths);
+        }
+        String mainClass;
+        try (LaunchPhase.Timing ignored = LaunchPhase.PROPERTIES.start()) {
+            mainClass = this.getMainClass();
+        }
+        Launcher.launch(classLoader, new MainMethodRunner(classLoader, mainClass, args));
+    }
+
+    /**
+     * Create class loader
+     *
+     * @param urls urls
+     * @return the class loader
+     * @since 2026.1.0
+     */
+    private ClassLoader createClassLoader(URL[] urls) {
+        return new URLClassLoader(urls, this.getClass().getClassLoader());
+    }
+
+    /**
+     * 优先使用 loader.main, 否则使用展开目录中 MANIFEST.MF 的 Start-Class
+     *
+     * @return the main class
+     * @throws Exception exception
+     * @since 2026.1.0
+     */
+    String getMainClass() throws Exception {
+        String mainClass = System.getProperty(PropertiesLauncher.MAIN);
+        if (mainClass == null) {
+            File manifestFile = new File(this.home, MANIFEST_MF);
+            if (manifestFile.isFile()) {
+                try (InputStream inputStream = new FileInputStream(manifestFile)) {
+                    mainClass = new Manifest(inputStream).getMainAttributes().getValue(START_CLASS_ATTRIBUTE);
+                }
+            }
+        }
+        if (mainClass == null) {
+            throw new IllegalStateException("No '" + PropertiesLauncher.MAIN + "' or 'Start-Class' specified");
+        }
+        return mainClass;
+    }
+
+    /**
+     * 按 slot.path, loader.path, BOOT-INF/classes, classpath 索引的顺序生成 classpath, 重复的 URL 只保留第一个.
+     * 开启 {@link ClassPathArtifacts#ENABLED_PROPERTY} 时与 {@link BootLauncher} 一样按构件坐标去重
+     *
+     * @return the class path urls
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    @NotNull List<URL> getClassPathUrls() throws IOException {
+        Set<URL> urls = new LinkedHashSet<>();
+        for (String path : this.paths) {
+            this.addPath(urls, new File(this.root + path));
+        }
+        String loaderPath = System.getProperty(PropertiesLauncher.PATH);
+        if (loaderPath != null) {
+            File loaderHome = new File(System.getProperty(PropertiesLauncher.HOME, System.getProperty("user.dir")));
+            for (String path : loaderPath.split(",")) {
+                path = path.trim();
+                if (!path.isEmpty()) {
+                    File file = new File(path);
+                    this.addPath(urls, file.isAbsolute() ? file : new File(loaderHome, path));
+                }
+            }
+        }
+        urls.add(toUrl(new File(this.home, BOOT_INF_CLASSES)));
+        for (String line : Files.readAllLines(new File(this.home, CLASSPATH_INDEX).toPath(), StandardCharsets.UTF_8)) {
+            line = line.trim();
+            if (!line.isEmpty() && !line.startsWith("#")) {
+                urls.add(toUrl(new File(this.home, line)));
+            }
+        }
+        if (ClassPathArtifacts.isEnabled()) {
+            // 同一个构件只保留优先级最高的一个, 例如 patch 中的 jar 覆盖 lib 中的同名构件
+            return ClassPathArtifacts.deduplicateUrls(new ArrayList<>(urls), this::debug);
+        }
+        return new ArrayList<>(urls);
+    }
+
+    /**
+     * jar 直接添加; 目录添加目录本身以及目录下按名称排序的 jar
+     *
+     * @param urls urls
+     * @param file file
+     * @throws MalformedURLException malformed url exception
+     * @since 2026.1.0
+     */
+    private void addPath(Set<URL> urls, @NotNull File file) throws MalformedURLException {
+        if (file.isFile() && isJar(file)) {
+            urls.add(toUrl(file));
+        } else if (file.isDirectory()) {
+            urls.add(toUrl(file));
+            File[] jars = file.listFiles(candidate -> candidate.isFile() && isJar(candidate));
+            if (jars != null) {
+                Arrays.sort(jars);
+                for (File jar : jars) {
+                    urls.add(toUrl(jar));
+                }
+            }
+        }
+    }
+
+    /**
+     * Is jar
+     *
+     * @param file file
+     * @return the boolean
+     * @since 2026.1.0
+     */
+    private static boolean isJar(@NotNull File file) {
+        return file.getName().toLowerCase(Locale.ENGLISH).endsWith(DOT_JAR);
+    }
+
+    /**
+     * To url
+     *
+     * @param file file
+     * @return the url
+     * @throws MalformedURLException malformed url exception
+     * @since 2026.1.0
+     */
+    private static URL toUrl(@NotNull File file) throws MalformedURLException {
+        URI uri = file.getAbsoluteFile().toURI().normalize();
+        return uri.toURL();
+    }
+
+    /**
+     * Debug
+     *
+     * @param message message
+     * @since 2026.1.0
+     */
+    private void debug(String message) {
+        if (Boolean.getBoolean("loader.debug")) {
+            System.out.println(message);
+        }
+    }
+
+}
@@ -0,0 +1,253 @@
+package dev.dong4j.zeka.maven.plugin.boot.boost;
+
+import dev.dong4j.zeka.maven.plugin.boot.loader.LaunchedURLClassLoader;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 监听 {@code --slot.path} 目录 (patch, plugin), 运行期间新增的 jar 放入新的 {@link LaunchedURLClassLoader} 层, 不需要重启 JVM.
+ * 每次加载都会创建一层, 父加载器为上一层 (第一层的父加载器为应用的 class loader), 因此:
+ * <ul>
+ *     <li>新 jar 中的新 class 和资源可以通过 {@link #getClassLoader()} 获取, 例如 {@code ServiceLoader.load(Plugin.class, SlotWatcher.getClassLoader())};</li>
+ *     <li>已经被应用加载过的 class 不会被替换 (双亲委派), 修复已有 class 仍然需要重启;</li>
+ *     <li>已经加载过的 jar 被覆盖时不会重新加载, 热更新的 jar 需要使用新的文件名.</li>
+ * </ul>
+ * 通过 {@code -Dloader.slot.watch=true} 开启; 文件写入完成前可能收到多次事件, 最后一次事件后等待
+ * {@code -Dloader.slot.watch.quietPeriod} 毫秒 (默认 1000) 没有新的事件才加载.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 20:40
+ * @since 2026.1.0
+ */
+public final class SlotWatcher implements Runnable {
+
+    /** 是否监听 slot 目录的系统属性, 默认关闭 */
+    public static final String WATCH_PROPERTY = "loader.slot.watch";
+
+    /** 最后一次事件后的等待时间 (毫秒) 的系统属性 */
+    public static final String QUIET_PERIOD_PROPERTY = "loader.slot.watch.quietPeriod";
+
+    /** DOT_JAR */
+    private static final String DOT_JAR = ".jar";
+
+    /** DEFAULT_QUIET_PERIOD */
+    private static final long DEFAULT_QUIET_PERIOD = 1000;
+
+    /** 当前运行的实例, 未开启时为 null */
+    private static volatile SlotWatcher instance;
+
+    /** Watch service */
+    private final WatchService watchService;
+
+    /** 已经在 class path 中的 jar */
+    private final Set<File> loaded = new HashSet<>();
+
+    /** 加载新层后的回调 */
+    private final List<Consumer<ClassLoader>> listeners = new CopyOnWriteArrayList<>();
+
+    /** Quiet period */
+    private final long quietPeriod;
+
+    /** 最新一层的 class loader */
+    private volatile ClassLoader classLoader;
+
+    /**
+     * Slot watcher
+     *
+     * @param classLoader  应用的 class loader
+     * @param watchService watch service
+     * @param loaded       已经在 class path 中的 jar
+     * @param quietPeriod  quiet period
+     * @since 2026.1.0
+     */
+    SlotWatcher(ClassLoader classLoader, WatchService watchService, Collection<File> loaded, long quietPeriod) {
+        this.classLoader = classLoader;
+        this.watchService = watchService;
+        this.quietPeriod = quietPeriod;
+        for (File file : loaded) {
+            this.loaded.add(file.getAbsoluteFile());
+        }
+    }
+
+    /**
+     * 开启了 {@code loader.slot.watch} 时监听存在的 slot 目录, 否则什么也不做; 目录中已经存在的 jar 已经在 class path 中, 不会重复加载
+     *
+     * @param classLoader 应用的 class loader
+     * @param root        slot root
+     * @param paths       slot paths
+     * @return the slot watcher, or {@code null} if watching is not enabled
+     * @since 2026.1.0
+     */
+    public static SlotWatcher start(ClassLoader classLoader, String root, List<String> paths) {
+        if (!Boolean.getBoolean(WATCH_PROPERTY)) {
+            return null;
+        }
+        List<File> directories = new ArrayList<>(paths.size());
+        List<File> loaded = new ArrayList<>();
+        SlotWatcher watcher;
+        try {
+            WatchService watchService = FileSystems.getDefault().newWatchService();
+            for (String path : paths) {
+                File directory = new File(root + path);
+                File[] jars = directory.listFiles((dir, name) -> name.endsWith(DOT_JAR));
+                if (jars != null) {
+                    directory.toPath().register(watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+                    directories.add(directory);
+                    loaded.addAll(Arrays.asList(jars));
+                }
+            }
+            watcher = new SlotWatcher(classLoader, watchService, loaded, Long.getLong(QUIET_PERIOD_PROPERTY, DEFAULT_QUIET_PERIOD));
+        } catch (IOException ex) {
+            System.err.println("Unable to watch slot paths " + paths + ": " + ex);
+            return null;
+        }
+        Thread thread = new Thread(watcher, "loader-slot-watcher");
+        thread.setDaemon(true);
+        thread.setContextClassLoader(classLoader);
+        thread.start();
+        instance = watcher;
+        debug("Watching slot paths " + directories + " for new jars");
+        return watcher;
+    }
+
+    /**
+     * 包含热加载 jar 的最新 class loader; 未开启监听时返回调用者的 class loader
+     *
+     * @return the class loader
+     * @since 2026.1.0
+     */
+    public static ClassLoader getClassLoader() {
+        SlotWatcher watcher = instance;
+        return (watcher != null) ? watcher.classLoader : Thread.currentThread().getContextClassLoader();
+    }
+
+    /**
+     * 添加新层加载后的回调, 参数为新的 class loader; 未开启监听时不会被调用
+     *
+     * @param listener listener
+     * @since 2026.1.0
+     */
+    public static void addListener(Consumer<ClassLoader> listener) {
+        SlotWatcher watcher = instance;
+        if (watcher != null) {
+            watcher.listeners.add(listener);
+        }
+    }
+
+    /**
+     * 收集事件中的 jar, 直到 quiet period 内没有新的事件后一次性加载
+     *
+     * @since 2026.1.0
+     */
+    @Override
+    public void run() {
+        List<File> pending = new ArrayList<>();
+        try {
+            while (true) {
+                WatchKey key = pending.isEmpty()
+                               ? this.watchService.take()
+                               : this.watchService.poll(this.quietPeriod, TimeUnit.MILLISECONDS);
+                if (key == null) {
+                    this.load(pending);
+                    pending.clear();
+                    continue;
+                }
+                Path directory = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        continue;
+                    }
+                    File file = directory.resolve((Path) event.context()).toFile().getAbsoluteFile();
+                    if (file.getName().endsWith(DOT_JAR) && !this.loaded.contains(file) && !pending.contains(file)) {
+                        pending.add(file);
+                    }
+                }
+                key.reset();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ex) {
+            // stopped
+        }
+    }
+
+    /**
+     * 将新的 jar 放入新的一层并通知回调
+     *
+     * @param files files
+     * @since 2026.1.0
+     */
+    void load(List<File> files) {
+        List<URL> urls = new ArrayList<>(files.size());
+        for (File file : files) {
+            if (!file.isFile()) {
+                continue;
+            }
+            try {
+                urls.add(file.toURI().toURL());
+                this.loaded.add(file);
+            } catch (MalformedURLException ex) {
+                System.err.println("Unable to load slot jar " + file + ": " + ex);
+            }
+        }
+        if (urls.isEmpty()) {
+            return;
+        }
+        ClassLoader layer = new LaunchedURLClassLoader(urls.toArray(new URL[0]), this.classLoader);
+        this.classLoader = layer;
+        debug("Loaded slot jars " + urls + " into a new class loader layer");
+        for (Consumer<ClassLoader> listener : this.listeners) {
+            try {
+                listener.accept(layer);
+            } catch (RuntimeException ex) {
+                System.err.println("Slot watcher listener failed: " + ex);
+            }
+        }
+    }
+
+    /**
+     * 停止监听, 已经加载的层保持可用
+     *
+     * @since 2026.1.0
+     */
+    public void stop() {
+        try {
+            this.watchService.close();
+        } catch (IOException ex) {
+            // ignore
+        }
+    }
+
+    /**
+     * 开启 {@code loader.debug} 时输出
+     *
+     * @param message message
+     * @since 2026.1.0
+     */
+    private static void debug(String message) {
+        if (Boolean.getBoolean("loader.debug")) {
+            System.out.println(message);
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CDS 训练模式 ({@code -Dloader.cds.training=true}): 与 {@code -XX:ArchiveClassesAtExit=<file>.jsa} 一起使用,
+ * 应用的 main 方法返回 (例如 Spring 容器刷新完成) 后立即退出 JVM, 由 JVM 在退出时将已加载的 class 写入动态 CDS 归档;
+ * main 方法一直阻塞时由守护线程在 {@code -Dloader.cds.trainingTimeout} 秒 (默认 120) 后退出.
+ * 只有以 {@code -cp launcher.jar} 启动展开目录时, 依赖 ({@code lib/*.jar}, 均为 {@code file:} URL 的普通 jar) 中的 class 才会被归档;
+ * {@link LaunchedURLClassLoader} 从嵌套 jar ({@code jar:file:...!/}) 中定义的 class 不会被归档, 以 {@code -jar} 训练时只有 JDK 和启动器的 class 受益.
+ * 运行时通过 {@code -XX:SharedArchiveFile} 加载, 前提是 launcher.jar 与训练时完全一致 (大小和修改时间), 且使用相同版本的 JDK (13 及以上).
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 16:20
+ * @since 2026.1.0
+ */
+public final class CdsTraining {
+
+    /** 开启训练模式的系统属性 */
+    public static final String TRAINING_PROPERTY = "loader.cds.training";
+
+    /** 训练超时时间 (秒) 的系统属性 */
+    public static final String TIMEOUT_PROPERTY = "loader.cds.trainingTimeout";
+
+    /** DEFAULT_TIMEOUT */
+    private static final long DEFAULT_TIMEOUT = 120;
+
+    /**
+     * Cds training
+     *
+     * @since 2026.1.0
+     */
+    private CdsTraining() {
+    }
+
+    /**
+     * 是否开启了训练模式
+     *
+     * @return the boolean
+     * @since 2026.1.0
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(TRAINING_PROPERTY);
+    }
+
+    /**
+     * 开启了训练模式时启动超时守护线程, 否则什么也不做
+     *
+     * @return 是否开启了训练模式
+     * @since 2026.1.0
+     */
+    static boolean start() {
+        if (!isEnabled()) {
+            return false;
+        }
+        long timeout = getTimeout();
+        Thread watchdog = new Thread(() -> {
+            try {
+                TimeUnit.SECONDS.sleep(timeout);
+            } catch (InterruptedException ex) {
+                return;
+            }
+            System.err.println("CDS training timed out after " + timeout + "s, exiting");
+            System.exit(0);
+        }, "loader-cds-training");
+        watchdog.setDaemon(true);
+        watchdog.start();
+        return true;
+    }
+
+    /**
+     * 应用启动完成, 退出 JVM 并写入归档
+     *
+     * @since 2026.1.0
+     */
+    static void finish() {
+        System.exit(0);
+    }
+
+    /**
+     * 应用启动失败, 以非 0 状态退出, 避免残留的非守护线程使训练进程一直等到超时
+     *
+     * @param ex ex
+     * @since 2026.1.0
+     */
+    static void fail(Throwable ex) {
+        System.err.println("CDS training failed: " + ex);
+        ex.printStackTrace();
+        System.exit(1);
+    }
+
+    /**
+     * Gets timeout *
+     *
+     * @return the timeout
+     * @since 2026.1.0
+     */
+    private static long getTimeout() {
+        String value = System.getProperty(TIMEOUT_PROPERTY);
+        if (value != null) {
+            try {
+                return Math.max(1, Long.parseLong(value.trim()));
+            } catch (NumberFormatException ex) {
+                // use default
+            }
+        }
+        return DEFAULT_TIMEOUT;
+    }
+
+}
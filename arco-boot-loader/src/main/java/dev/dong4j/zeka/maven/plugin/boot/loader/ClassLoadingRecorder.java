@@ -0,0 +1,160 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 记录 {@link LaunchedURLClassLoader} 加载的 class 和资源 (按首次加载顺序), 在 JVM 退出时写入
+ * {@code -Dloader.trace=<file>} 指定的文件, 供 {@link ClassPreloader} 在下次启动时回放.
+ * 文件每行一条记录: {@code C <class name>} 或 {@code R <resource name>}.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 15:40
+ * @since 2026.1.0
+ */
+public final class ClassLoadingRecorder {
+
+    /** 记录文件的系统属性 */
+    public static final String TRACE_PROPERTY = "loader.trace";
+
+    /** class 记录前缀 */
+    static final String CLASS_PREFIX = "C ";
+
+    /** 资源记录前缀 */
+    static final String RESOURCE_PREFIX = "R ";
+
+    /** 最多记录的条数, 避免长时间运行的应用无限增长 */
+    private static final int MAX_RECORDS = 200_000;
+
+    /** Instance */
+    private static volatile ClassLoadingRecorder instance;
+
+    /** File */
+    private final File file;
+
+    /** 已记录的条目, 用于去重 */
+    private final Set<String> seen = ConcurrentHashMap.newKeySet();
+
+    /** 按记录顺序排列的条目 */
+    private final Queue<String> records = new ConcurrentLinkedQueue<>();
+
+    /** Count */
+    private final AtomicInteger count = new AtomicInteger();
+
+    /**
+     * Class loading recorder
+     *
+     * @param file file
+     * @since 2026.1.0
+     */
+    ClassLoadingRecorder(File file) {
+        this.file = file;
+    }
+
+    /**
+     * 获取进程内共享的记录器, 未设置 {@code loader.trace} 时返回 {@code null}
+     *
+     * @return the class loading recorder
+     * @since 2026.1.0
+     */
+    static ClassLoadingRecorder get() {
+        String path = System.getProperty(TRACE_PROPERTY);
+        if (path == null || path.trim().isEmpty()) {
+            return null;
+        }
+        ClassLoadingRecorder recorder = instance;
+        if (recorder == null) {
+            synchronized (ClassLoadingRecorder.class) {
+                recorder = instance;
+                if (recorder == null) {
+                    recorder = new ClassLoadingRecorder(new File(path.trim()));
+                    Thread hook = new Thread(recorder::writeQuietly, "loader-trace-writer");
+                    Runtime.getRuntime().addShutdownHook(hook);
+                    instance = recorder;
+                }
+            }
+        }
+        return recorder;
+    }
+
+    /**
+     * Record class
+     *
+     * @param className class name
+     * @since 2026.1.0
+     */
+    void recordClass(String className) {
+        this.record(CLASS_PREFIX + className);
+    }
+
+    /**
+     * Record resource
+     *
+     * @param resourceName resource name
+     * @since 2026.1.0
+     */
+    void recordResource(String resourceName) {
+        this.record(RESOURCE_PREFIX + resourceName);
+    }
+
+    /**
+     * Record
+     *
+     * @param record record
+     * @since 2026.1.0
+     */
+    private void record(String record) {
+        if (this.count.get() < MAX_RECORDS && this.seen.add(record)) {
+            this.records.add(record);
+            this.count.incrementAndGet();
+        }
+    }
+
+    /**
+     * 写入记录文件, 先写临时文件再替换, 避免下次启动读到不完整的文件
+     *
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    void write() throws IOException {
+        File parent = this.file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Unable to create directory " + parent);
+        }
+        File temp = new File(parent, this.file.getName() + ".tmp");
+        try (BufferedWriter writer = new BufferedWriter(
+            new OutputStreamWriter(Files.newOutputStream(temp.toPath()), StandardCharsets.UTF_8))) {
+            for (String record : this.records) {
+                writer.write(record);
+                writer.newLine();
+            }
+        }
+        Files.move(temp.toPath(), this.file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Write quietly
+     *
+     * @since 2026.1.0
+     */
+    private void writeQuietly() {
+        try {
+            this.write();
+        } catch (IOException ex) {
+            System.err.println("Unable to write class loading trace to " + this.file + ": " + ex);
+        }
+    }
+
+}
@@ -0,0 +1,192 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader;
+
+import dev.dong4j.zeka.maven.plugin.boot.loader.archive.Archive;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * class path 中的 maven 构件去重: patch, plugin 和 lib 中 groupId:artifactId 相同的 jar 只保留 class path 中最靠前的一个,
+ * 被覆盖的 jar 不再打开和探测, 每次查找未命中时需要检查的归档也随之减少.
+ * 坐标只从 {@code META-INF/maven/<groupId>/<artifactId>/pom.properties} 的路径获取 (直接使用归档的包名, 不读取条目内容);
+ * MANIFEST.MF 的 {@code Implementation-Vendor-Id} 和 {@code Implementation-Title} 不能唯一标识构件, 不用于去重.
+ * 包含多个 pom.properties 的 jar (例如 shade 后的 jar) 和没有 pom.properties 的归档总是保留.
+ * 嵌套 jar 启动 ({@link #deduplicate(List, Consumer)}) 和展开目录启动 ({@link #deduplicateUrls(List, Consumer)}) 使用相同的规则.
+ * 被覆盖的 jar 不再可见会改变原有的 class path 语义, 因此默认关闭, 可以通过 {@code -Dloader.deduplicate=true} 开启.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 20:10
+ * @since 2026.1.0
+ */
+public final class ClassPathArtifacts {
+
+    /** 是否启用构件去重的系统属性, 默认关闭 */
+    public static final String ENABLED_PROPERTY = "loader.deduplicate";
+
+    /** pom.properties 所在目录的前缀 */
+    private static final String MAVEN_PREFIX = "META-INF/maven/";
+
+    /** POM_PROPERTIES */
+    private static final String POM_PROPERTIES = "/pom.properties";
+
+    /**
+     * Class path artifacts
+     *
+     * @since 2026.1.0
+     */
+    private ClassPathArtifacts() {
+    }
+
+    /**
+     * 构件去重是否启用
+     *
+     * @return the boolean
+     * @since 2026.1.0
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    /**
+     * 按 class path 顺序去重, 坐标相同的归档只保留第一个
+     *
+     * @param archives archives
+     * @param logger   记录被覆盖的归档
+     * @return the list
+     * @throws Exception if an archive url cannot be obtained
+     * @since 2026.1.0
+     */
+    public static List<Archive> deduplicate(List<Archive> archives, Consumer<String> logger) throws Exception {
+        Map<String, Archive> winners = new HashMap<>(archives.size() * 2);
+        List<Archive> result = new ArrayList<>(archives.size());
+        for (Archive archive : archives) {
+            String coordinates = getCoordinates(archive);
+            if (coordinates != null) {
+                Archive winner = winners.putIfAbsent(coordinates, archive);
+                if (winner != null && !winner.getUrl().equals(archive.getUrl())) {
+                    logger.accept("Artifact " + coordinates + ": " + archive.getUrl() + " is shadowed by " + winner.getUrl());
+                    continue;
+                }
+            }
+            result.add(archive);
+        }
+        return result;
+    }
+
+    /**
+     * 展开目录启动时按 class path 顺序去重, 只检查 {@code file:} 协议的 jar, 目录和无法读取的 jar 总是保留
+     *
+     * @param urls   urls
+     * @param logger 记录被覆盖的 jar
+     * @return the list
+     * @since 2026.1.0
+     */
+    public static List<URL> deduplicateUrls(List<URL> urls, Consumer<String> logger) {
+        Map<String, URL> winners = new HashMap<>(urls.size() * 2);
+        List<URL> result = new ArrayList<>(urls.size());
+        for (URL url : urls) {
+            String coordinates = getCoordinates(url);
+            if (coordinates != null) {
+                URL winner = winners.putIfAbsent(coordinates, url);
+                if (winner != null && !winner.equals(url)) {
+                    logger.accept("Artifact " + coordinates + ": " + url + " is shadowed by " + winner);
+                    continue;
+                }
+            }
+            result.add(url);
+        }
+        return result;
+    }
+
+    /**
+     * 获取 {@code file:} 协议的 jar 的 {@code groupId:artifactId}, 需要遍历 central directory 中的条目名
+     *
+     * @param url url
+     * @return the coordinates, 无法确定时返回 {@code null}
+     * @since 2026.1.0
+     */
+    static String getCoordinates(URL url) {
+        if (!"file".equals(url.getProtocol()) || !url.getPath().endsWith(".jar")) {
+            return null;
+        }
+        String coordinates = null;
+        try (ZipFile zipFile = new ZipFile(new File(url.toURI()))) {
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                String name = entries.nextElement().getName();
+                if (!name.startsWith(MAVEN_PREFIX) || !name.endsWith(POM_PROPERTIES)) {
+                    continue;
+                }
+                String candidate = toCoordinates(name.substring(0, name.length() - POM_PROPERTIES.length()));
+                if (candidate == null) {
+                    continue;
+                }
+                if (coordinates != null) {
+                    return null;
+                }
+                coordinates = candidate;
+            }
+        } catch (IOException | URISyntaxException | IllegalArgumentException ex) {
+            return null;
+        }
+        return coordinates;
+    }
+
+    /**
+     * 获取归档的 {@code groupId:artifactId}
+     *
+     * @param archive archive
+     * @return the coordinates, 无法确定时返回 {@code null}
+     * @since 2026.1.0
+     */
+    static String getCoordinates(Archive archive) {
+        Set<String> packageNames = archive.getPackageNames();
+        if (packageNames == null) {
+            return null;
+        }
+        String coordinates = null;
+        for (String packageName : packageNames) {
+            if (!packageName.startsWith(MAVEN_PREFIX)) {
+                continue;
+            }
+            String candidate = toCoordinates(packageName);
+            if (candidate == null || !archive.containsEntry(packageName + POM_PROPERTIES)) {
+                continue;
+            }
+            if (coordinates != null) {
+                return null;
+            }
+            coordinates = candidate;
+        }
+        return coordinates;
+    }
+
+    /**
+     * {@code META-INF/maven/<groupId>/<artifactId>} 目录对应的坐标
+     *
+     * @param directory 以 {@link #MAVEN_PREFIX} 开头, 不以 {@code /} 结尾的目录名
+     * @return the coordinates, 不是两级目录时返回 {@code null}
+     * @since 2026.1.0
+     */
+    private static String toCoordinates(String directory) {
+        int slash = directory.indexOf('/', MAVEN_PREFIX.length());
+        if (slash == -1 || directory.indexOf('/', slash + 1) != -1) {
+            return null;
+        }
+        return directory.substring(MAVEN_PREFIX.length(), slash) + ':' + directory.substring(slash + 1);
+    }
+
+}
@@ -0,0 +1,258 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader;
+
+import dev.dong4j.zeka.maven.plugin.boot.loader.archive.Archive;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * class path 的包索引: 包 (目录) 名 -> 包含该包的 class path 下标 (按 class path 顺序).
+ * {@link LaunchedURLClassLoader} 查找 class 和资源时只探测拥有该包的归档, 不需要像 {@link java.net.URLClassLoader}
+ * 一样依次探测每一个 jar; 没有归档拥有该包时直接返回未找到.
+ * 无法提供包名的归档 (例如 {@link dev.dong4j.zeka.maven.plugin.boot.loader.archive.ExplodedArchive}) 会参与所有查找,
+ * 之后通过 {@code addURL} 添加的 url 没有索引, 由 {@link LaunchedURLClassLoader} 在索引之后依次探测.
+ * 包命中后先在归档的 central directory 中精确查找条目 ({@link Archive#containsEntry(String)}), 不包含时不再打开资源连接.
+ * 索引把包名当作权威: 打包后在 jar 中动态生成的条目或包名与实际内容不一致的归档会查找不到, 因此默认关闭,
+ * 可以通过 {@code -Dloader.packageIndex=true} 开启.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 13:20
+ * @since 2026.1.0
+ */
+public final class ClassPathIndex {
+
+    /** 是否启用包索引的系统属性, 默认关闭 */
+    public static final String ENABLED_PROPERTY = "loader.packageIndex";
+
+    /** NO_OWNERS */
+    private static final int[] NO_OWNERS = new int[0];
+
+    /** class path, 与 class loader 使用的 url 顺序一致 */
+    private final URL[] urls;
+
+    /** 与 {@link #urls} 一一对应的资源根 url, jar 文件为 {@code jar:<url>!/} */
+    private final URL[] baseUrls;
+
+    /** 与 {@link #urls} 一一对应的归档 */
+    private final Archive[] archives;
+
+    /** 包名 -> 拥有该包的已索引归档下标 */
+    private final Map<String, int[]> owners;
+
+    /** 无法索引的归档下标 */
+    private final int[] unindexed;
+
+    /** 合并了 {@link #unindexed} 之后的结果缓存 */
+    private final Map<String, int[]> mergedOwners = new ConcurrentHashMap<>();
+
+    /**
+     * Class path index
+     *
+     * @param urls      urls
+     * @param archives  archives
+     * @param owners    owners
+     * @param unindexed unindexed
+     * @throws MalformedURLException malformed url exception
+     * @since 2026.1.0
+     */
+    private ClassPathIndex(URL[] urls, Archive[] archives, Map<String, int[]> owners, int[] unindexed)
+        throws MalformedURLException {
+        this.urls = urls;
+        this.baseUrls = new URL[urls.length];
+        for (int i = 0; i < urls.length; i++) {
+            this.baseUrls[i] = toBaseUrl(urls[i]);
+        }
+        this.archives = archives;
+        this.owners = owners;
+        this.unindexed = unindexed;
+    }
+
+    /**
+     * 包索引是否启用
+     *
+     * @return the boolean
+     * @since 2026.1.0
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    /**
+     * 根据归档构建索引, url 重复的归档只保留第一个.
+     *
+     * @param archives archives
+     * @return the class path index
+     * @throws Exception if an archive url cannot be obtained
+     * @since 2026.1.0
+     */
+    public static ClassPathIndex of(List<Archive> archives) throws Exception {
+        Set<URL> urls = new LinkedHashSet<>(archives.size());
+        List<Archive> distinct = new ArrayList<>(archives.size());
+        Map<String, List<Integer>> owners = new HashMap<>();
+        List<Integer> unindexed = new ArrayList<>();
+        for (Archive archive : archives) {
+            if (!urls.add(archive.getUrl())) {
+                continue;
+            }
+            int ordinal = urls.size() - 1;
+            distinct.add(archive);
+            Set<String> packageNames = archive.getPackageNames();
+            if (packageNames == null) {
+                unindexed.add(ordinal);
+                continue;
+            }
+            for (String packageName : packageNames) {
+                owners.computeIfAbsent(packageName, key -> new ArrayList<>(1)).add(ordinal);
+            }
+        }
+        Map<String, int[]> index = new HashMap<>((int) (owners.size() / 0.75f) + 1);
+        for (Map.Entry<String, List<Integer>> entry : owners.entrySet()) {
+            index.put(entry.getKey(), toArray(entry.getValue()));
+        }
+        return new ClassPathIndex(urls.toArray(new URL[0]), distinct.toArray(new Archive[0]), index, toArray(unindexed));
+    }
+
+    /**
+     * To array int [ ]
+     *
+     * @param values values
+     * @return the int [ ]
+     * @since 2026.1.0
+     */
+    private static int[] toArray(List<Integer> values) {
+        int[] result = new int[values.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = values.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Get urls url [ ]
+     *
+     * @return the url [ ]
+     * @since 2026.1.0
+     */
+    public URL[] getUrls() {
+        return this.urls.clone();
+    }
+
+    /**
+     * Gets url *
+     *
+     * @param ordinal ordinal
+     * @return the url
+     * @since 2026.1.0
+     */
+    URL getUrl(int ordinal) {
+        return this.urls[ordinal];
+    }
+
+    /**
+     * 资源根 url, 与 {@link java.net.URLClassLoader} 一样以 {@code /} 结尾的 url 作为目录, 其他 url 作为 jar 文件
+     *
+     * @param url url
+     * @return the base url
+     * @throws MalformedURLException malformed url exception
+     * @since 2026.1.0
+     */
+    static URL toBaseUrl(URL url) throws MalformedURLException {
+        if (url.getFile().endsWith("/")) {
+            return url;
+        }
+        return new URL("jar:" + url.toExternalForm() + "!/");
+    }
+
+    /**
+     * 指定 class path 条目中资源的 url
+     *
+     * @param ordinal      ordinal
+     * @param resourceName resource name, 不需要 url 编码
+     * @return the url
+     * @throws MalformedURLException malformed url exception
+     * @since 2026.1.0
+     */
+    URL getResourceUrl(int ordinal, String resourceName) throws MalformedURLException {
+        return new URL(this.baseUrls[ordinal], resourceName);
+    }
+
+    /**
+     * 判断指定归档是否包含该资源
+     *
+     * @param ordinal      ordinal
+     * @param resourceName resource name
+     * @return the boolean
+     * @since 2026.1.0
+     */
+    boolean contains(int ordinal, String resourceName) {
+        return this.archives[ordinal].containsEntry(resourceName);
+    }
+
+    /**
+     * 获取可能包含指定资源的归档下标, 按 class path 顺序排列, 为空时说明所有归档都不包含该资源.
+     *
+     * @param resourceName 资源名, 例如 {@code com/example/Foo.class}
+     * @return the int [ ]
+     * @since 2026.1.0
+     */
+    int[] getOwners(String resourceName) {
+        int lastSlash = resourceName.lastIndexOf('/');
+        String packageName = (lastSlash > 0) ? resourceName.substring(0, lastSlash) : "";
+        int[] indexed = this.owners.get(packageName);
+        if (this.unindexed.length == 0) {
+            return (indexed != null) ? indexed : NO_OWNERS;
+        }
+        if (indexed == null) {
+            return this.unindexed;
+        }
+        return this.mergedOwners.computeIfAbsent(packageName, key -> merge(indexed, this.unindexed));
+    }
+
+    /**
+     * 合并两个有序数组
+     *
+     * @param first  first
+     * @param second second
+     * @return the int [ ]
+     * @since 2026.1.0
+     */
+    private static int[] merge(int[] first, int[] second) {
+        int[] result = new int[first.length + second.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < first.length && j < second.length) {
+            result[k++] = (first[i] < second[j]) ? first[i++] : second[j++];
+        }
+        while (i < first.length) {
+            result[k++] = first[i++];
+        }
+        while (j < second.length) {
+            result[k++] = second[j++];
+        }
+        return result;
+    }
+
+    /**
+     * To string string
+     *
+     * @return the string
+     * @since 2026.1.0
+     */
+    @Override
+    public String toString() {
+        return "ClassPathIndex{packages=" + this.owners.size() + ", archives=" + this.urls.length + ", unindexed="
+            + Arrays.toString(this.unindexed) + "}";
+    }
+
+}
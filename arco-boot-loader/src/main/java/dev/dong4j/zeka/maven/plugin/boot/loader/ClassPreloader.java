@@ -0,0 +1,164 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 回放 {@link ClassLoadingRecorder} 记录的文件 ({@code -Dloader.preload=<file>}):
+ * 在后台守护线程中按记录顺序定义 class (不执行初始化) 并查找资源, 预热条目缓存,
+ * 使主线程在启动过程中直接使用已经定义好的 class.
+ * 线程数可以通过 {@code -Dloader.preload.threads} 设置, 默认为 CPU 数减一 (最多 4 个, 至少 1 个).
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 15:40
+ * @since 2026.1.0
+ */
+public final class ClassPreloader implements Runnable {
+
+    /** 回放文件的系统属性 */
+    public static final String PRELOAD_PROPERTY = "loader.preload";
+
+    /** 回放线程数的系统属性 */
+    public static final String THREADS_PROPERTY = "loader.preload.threads";
+
+    /** MAX_DEFAULT_THREADS */
+    private static final int MAX_DEFAULT_THREADS = 4;
+
+    /** Class loader */
+    private final ClassLoader classLoader;
+
+    /** Records */
+    private final List<String> records;
+
+    /** 下一条待回放记录的下标, 所有线程共享, 保持大致的记录顺序 */
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    /** 已回放的条数 */
+    private final AtomicInteger loaded = new AtomicInteger();
+
+    /**
+     * Class preloader
+     *
+     * @param classLoader class loader
+     * @param records     records
+     * @since 2026.1.0
+     */
+    ClassPreloader(ClassLoader classLoader, List<String> records) {
+        this.classLoader = classLoader;
+        this.records = records;
+    }
+
+    /**
+     * 设置了 {@code loader.preload} 且文件存在时启动回放线程, 否则什么也不做
+     *
+     * @param classLoader class loader
+     * @return the class preloader, or {@code null} if preloading is not enabled
+     * @since 2026.1.0
+     */
+    public static ClassPreloader start(ClassLoader classLoader) {
+        String path = System.getProperty(PRELOAD_PROPERTY);
+        if (path == null || path.trim().isEmpty()) {
+            return null;
+        }
+        File file = new File(path.trim());
+        if (!file.isFile()) {
+            return null;
+        }
+        List<String> records;
+        try {
+            records = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            System.err.println("Unable to read class preload file " + file + ": " + ex);
+            return null;
+        }
+        ClassPreloader preloader = new ClassPreloader(classLoader, records);
+        int threads = getThreads();
+        for (int i = 0; i < threads; i++) {
+            Thread thread = new Thread(preloader, "loader-preload-" + i);
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            thread.setContextClassLoader(classLoader);
+            thread.start();
+        }
+        return preloader;
+    }
+
+    /**
+     * Gets threads *
+     *
+     * @return the threads
+     * @since 2026.1.0
+     */
+    private static int getThreads() {
+        String value = System.getProperty(THREADS_PROPERTY);
+        if (value != null) {
+            try {
+                return Math.max(1, Integer.parseInt(value.trim()));
+            } catch (NumberFormatException ex) {
+                // use default
+            }
+        }
+        return Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() - 1, MAX_DEFAULT_THREADS));
+    }
+
+    /**
+     * Run
+     *
+     * @since 2026.1.0
+     */
+    @Override
+    public void run() {
+        int index;
+        while ((index = this.cursor.getAndIncrement()) < this.records.size()) {
+            this.preload(this.records.get(index));
+        }
+    }
+
+    /**
+     * 回放一条记录, 找不到或无法定义时忽略, 交给主线程按正常流程处理
+     *
+     * @param record record
+     * @since 2026.1.0
+     */
+    void preload(String record) {
+        try {
+            if (record.startsWith(ClassLoadingRecorder.CLASS_PREFIX)) {
+                Class.forName(record.substring(ClassLoadingRecorder.CLASS_PREFIX.length()), false, this.classLoader);
+            } else if (record.startsWith(ClassLoadingRecorder.RESOURCE_PREFIX)) {
+                this.classLoader.getResource(record.substring(ClassLoadingRecorder.RESOURCE_PREFIX.length()));
+            } else {
+                return;
+            }
+            this.loaded.incrementAndGet();
+        } catch (ClassNotFoundException | LinkageError | RuntimeException ex) {
+            // Ignore
+        }
+    }
+
+    /**
+     * 已回放成功的条数
+     *
+     * @return the loaded
+     * @since 2026.1.0
+     */
+    public int getLoaded() {
+        return this.loaded.get();
+    }
+
+    /**
+     * 是否已经回放完所有记录 (最后几条可能仍在执行)
+     *
+     * @return the boolean
+     * @since 2026.1.0
+     */
+    public boolean isDone() {
+        return this.cursor.get() >= this.records.size();
+    }
+
+}
@@ -1,6 +1,7 @@
 package dev.dong4j.zeka.maven.plugin.boot.loader;
 
 import dev.dong4j.zeka.maven.plugin.boot.loader.archive.Archive;
+import dev.dong4j.zeka.maven.plugin.boot.loader.util.LaunchPhase;
 import org.jetbrains.annotations.Contract;
 
 import java.util.ArrayList;
@@ -27,8 +28,9 @@ public abstract class ExecutableArchiveLauncher extends Launcher {
      *
      * @since 1.0.0
      */
+    @SuppressWarnings("try")
     protected ExecutableArchiveLauncher() {
-        try {
+        try (LaunchPhase.Timing ignored = LaunchPhase.ARCHIVES.start()) {
             // 找到自己所在的jar, 并创建 Archive
             this.archive = this.createArchive();
         } catch (Exception ex) {
@@ -2,20 +2,37 @@ package dev.dong4j.zeka.maven.plugin.boot.loader;
 
 import dev.dong4j.zeka.maven.plugin.boot.loader.jar.CustomJarFile;
 import dev.dong4j.zeka.maven.plugin.boot.loader.jar.Handler;
+import dev.dong4j.zeka.maven.plugin.boot.loader.util.LoaderMetrics;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.JarURLConnection;
+import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.net.URLConnection;
 import java.security.AccessController;
+import java.security.CodeSigner;
+import java.security.CodeSource;
 import java.security.PrivilegedExceptionAction;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.jar.Manifest;
 
 /**
- * 通过扩展的 jar 协议, 以实现 jar in jar 这种情况下的 class 文件加载
+ * 通过扩展的 jar 协议, 以实现 jar in jar 这种情况下的 class 文件加载.
+ * 查找失败的 class 和资源会记录在负缓存中, 重复查找时直接返回未找到, 不再访问 jar,
+ * 负缓存大小可以通过 {@code -Dloader.negativeCacheSize} 设置, 为 0 时关闭.
  *
  * @author dong4j
  * @version 1.0.0
@@ -26,10 +43,34 @@ import java.util.jar.JarFile;
 @SuppressWarnings("all")
 public class LaunchedURLClassLoader extends URLClassLoader {
 
+    /** 负缓存大小的系统属性 */
+    public static final String NEGATIVE_CACHE_SIZE_PROPERTY = "loader.negativeCacheSize";
+
+    /** DEFAULT_NEGATIVE_CACHE_SIZE */
+    private static final int DEFAULT_NEGATIVE_CACHE_SIZE = 10000;
+
     static {
         ClassLoader.registerAsParallelCapable();
     }
 
+    /** 包索引, 为 {@code null} 时使用 {@link URLClassLoader} 默认的线性查找 */
+    private final ClassPathIndex index;
+
+    /** 使用包索引时通过 {@link #addURL(URL)} 添加的 url, 在索引之后按添加顺序探测 */
+    private final List<URL> addedUrls = new CopyOnWriteArrayList<>();
+
+    /** 添加的 url 无法转换为资源根 url 时为 true, 之后全部交给 {@link URLClassLoader} 查找 */
+    private volatile boolean indexBypassed;
+
+    /** 查找失败的资源名 (class 使用 {@code com/example/Foo.class} 的形式), 为 {@code null} 时关闭 */
+    private final Set<String> negativeCache = createNegativeCache();
+
+    /** 负缓存的容量, 超过后整体清空 */
+    private final int negativeCacheSize = getNegativeCacheSize();
+
+    /** 设置了 {@code loader.trace} 时记录加载的 class 和资源 */
+    private final ClassLoadingRecorder recorder = ClassLoadingRecorder.get();
+
     /**
      * Create a new {@link LaunchedURLClassLoader} instance.
      *
@@ -39,6 +80,21 @@ public class LaunchedURLClassLoader extends URLClassLoader {
      */
     public LaunchedURLClassLoader(URL[] urls, ClassLoader parent) {
         super(urls, parent);
+        this.index = null;
+    }
+
+    /**
+     * 使用包索引创建 {@link LaunchedURLClassLoader}, class 和资源只在拥有对应包的归档和之后通过 {@link #addURL(URL)}
+     * 添加的 url 中查找, 都没有时直接返回未找到, 不再按 class path 依次探测每一个 jar.
+     * 需要 url 编码的资源名仍然交给 {@link URLClassLoader} 查找.
+     *
+     * @param index  the class path index
+     * @param parent the parent class loader for delegation
+     * @since 2026.1.0
+     */
+    public LaunchedURLClassLoader(ClassPathIndex index, ClassLoader parent) {
+        super(index.getUrls(), parent);
+        this.index = index;
     }
 
     /**
@@ -50,9 +106,18 @@ public class LaunchedURLClassLoader extends URLClassLoader {
      */
     @Override
     public URL findResource(String name) {
+        if (this.isKnownMissing(name)) {
+            return null;
+        }
         Handler.setUseFastConnectionExceptions(true);
         try {
-            return super.findResource(name);
+            URL url = this.isIndexed(name) ? this.findIndexedResource(name) : super.findResource(name);
+            if (url == null) {
+                this.recordMissing(name);
+            } else if (this.recorder != null) {
+                this.recorder.recordResource(name);
+            }
+            return url;
         } finally {
             Handler.setUseFastConnectionExceptions(false);
         }
@@ -68,6 +133,9 @@ public class LaunchedURLClassLoader extends URLClassLoader {
      */
     @Override
     public Enumeration<URL> findResources(String name) throws IOException {
+        if (this.isKnownMissing(name)) {
+            return Collections.emptyEnumeration();
+        }
         Handler.setUseFastConnectionExceptions(true);
         try {
             return new UseFastConnectionExceptionsEnumeration(super.findResources(name));
@@ -90,7 +158,10 @@ public class LaunchedURLClassLoader extends URLClassLoader {
         Handler.setUseFastConnectionExceptions(true);
         try {
             try {
-                this.definePackageIfNecessary(name);
+                // 已知不存在的 class 只需要交给 parent, 不需要再检查 jar 中的包信息
+                if (this.negativeCache == null || !this.negativeCache.contains(toResourceName(name))) {
+                    this.definePackageIfNecessary(name);
+                }
             } catch (IllegalArgumentException ex) {
                 // Tolerate race condition due to being parallel capable
                 if (this.getPackage(name) == null) {
@@ -106,6 +177,370 @@ public class LaunchedURLClassLoader extends URLClassLoader {
         }
     }
 
+    /**
+     * 使用包索引时只在拥有该包的归档和添加的 url 中查找 class, 否则交给 {@link URLClassLoader} 查找.
+     * 已知不存在的 class 直接抛出 {@link ClassNotFoundException}.
+     *
+     * @param name name
+     * @return the class
+     * @throws ClassNotFoundException class not found exception
+     * @since 2026.1.0
+     */
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        String path = toResourceName(name);
+        if (this.isKnownMissing(path)) {
+            throw new ClassNotFoundException(name);
+        }
+        if (this.isIndexed(path)) {
+            Class<?> type = this.findIndexedClass(name, path);
+            if (type == null) {
+                this.recordMissing(path);
+                throw new ClassNotFoundException(name);
+            }
+            return this.recordClass(type);
+        }
+        try {
+            return this.recordClass(super.findClass(name));
+        } catch (ClassNotFoundException ex) {
+            this.recordMissing(path);
+            throw ex;
+        }
+    }
+
+    /**
+     * 设置了 {@code loader.trace} 时记录已定义的 class
+     *
+     * @param type type
+     * @return the class
+     * @since 2026.1.0
+     */
+    private Class<?> recordClass(Class<?> type) {
+        if (this.recorder != null) {
+            this.recorder.recordClass(type.getName());
+        }
+        return type;
+    }
+
+    /**
+     * class 名对应的资源名
+     *
+     * @param className class name
+     * @return the string
+     * @since 2026.1.0
+     */
+    private static String toResourceName(String className) {
+        return className.replace('.', '/').concat(".class");
+    }
+
+    /**
+     * 资源是否已知不存在
+     *
+     * @param name resource name
+     * @return the boolean
+     * @since 2026.1.0
+     */
+    private boolean isKnownMissing(String name) {
+        if (this.negativeCache == null) {
+            return false;
+        }
+        if (this.negativeCache.contains(name)) {
+            LoaderMetrics.NEGATIVE_CACHE_HITS.increment();
+            return true;
+        }
+        LoaderMetrics.NEGATIVE_CACHE_MISSES.increment();
+        return false;
+    }
+
+    /**
+     * 记录不存在的资源, 超过容量时整体清空, 避免无限增长
+     *
+     * @param name resource name
+     * @since 2026.1.0
+     */
+    private void recordMissing(String name) {
+        if (this.negativeCache == null) {
+            return;
+        }
+        if (this.negativeCache.size() >= this.negativeCacheSize) {
+            this.negativeCache.clear();
+        }
+        this.negativeCache.add(name);
+    }
+
+    /**
+     * Create negative cache
+     *
+     * @return the set
+     * @since 2026.1.0
+     */
+    private static Set<String> createNegativeCache() {
+        return (getNegativeCacheSize() > 0) ? ConcurrentHashMap.newKeySet() : null;
+    }
+
+    /**
+     * Gets negative cache size *
+     *
+     * @return the negative cache size
+     * @since 2026.1.0
+     */
+    private static int getNegativeCacheSize() {
+        String value = System.getProperty(NEGATIVE_CACHE_SIZE_PROPERTY);
+        if (value == null) {
+            return DEFAULT_NEGATIVE_CACHE_SIZE;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException ex) {
+            return DEFAULT_NEGATIVE_CACHE_SIZE;
+        }
+    }
+
+    /**
+     * 新增 url 后之前的查找结果不再可靠, 清空负缓存
+     *
+     * @param url url
+     * @since 2026.1.0
+     */
+    @Override
+    protected void addURL(URL url) {
+        super.addURL(url);
+        if (this.index != null) {
+            try {
+                ClassPathIndex.toBaseUrl(url);
+                this.addedUrls.add(url);
+            } catch (MalformedURLException ex) {
+                this.indexBypassed = true;
+            }
+        }
+        if (this.negativeCache != null) {
+            this.negativeCache.clear();
+        }
+    }
+
+    /**
+     * 是否通过包索引查找该资源
+     *
+     * @param name resource name
+     * @return the boolean
+     * @since 2026.1.0
+     */
+    private boolean isIndexed(String name) {
+        return this.index != null && !this.indexBypassed && isPlainName(name);
+    }
+
+    /**
+     * 在拥有该 class 所在包的归档中按 class path 顺序查找并定义 class, 然后查找添加的 url
+     *
+     * @param name name
+     * @param path class 资源名
+     * @return the class, or {@code null} if no archive contains it
+     * @throws ClassNotFoundException class not found exception
+     * @since 2026.1.0
+     */
+    private Class<?> findIndexedClass(String name, String path) throws ClassNotFoundException {
+        for (int owner : this.index.getOwners(path)) {
+            if (!this.index.contains(owner, path)) {
+                continue;
+            }
+            URL codeSourceUrl = this.index.getUrl(owner);
+            try {
+                URLConnection connection = openIfExists(this.index.getResourceUrl(owner, path));
+                if (connection != null) {
+                    return this.defineClass(name, connection, codeSourceUrl);
+                }
+            } catch (IOException ex) {
+                throw new ClassNotFoundException(name, ex);
+            }
+        }
+        for (URL url : this.addedUrls) {
+            try {
+                URLConnection connection = openIfExists(new URL(ClassPathIndex.toBaseUrl(url), path));
+                if (connection != null) {
+                    return this.defineClass(name, connection, url);
+                }
+            } catch (IOException ex) {
+                throw new ClassNotFoundException(name, ex);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 在拥有该资源所在包的归档中按 class path 顺序查找资源, 然后查找添加的 url
+     *
+     * @param name name
+     * @return the url, or {@code null} if no archive contains it
+     * @since 2026.1.0
+     */
+    private URL findIndexedResource(String name) {
+        for (int owner : this.index.getOwners(name)) {
+            if (!this.index.contains(owner, name)) {
+                continue;
+            }
+            try {
+                URL url = this.index.getResourceUrl(owner, name);
+                URLConnection connection = openIfExists(url);
+                if (connection != null) {
+                    return url;
+                }
+            } catch (IOException ex) {
+                // Ignore
+            }
+        }
+        for (URL added : this.addedUrls) {
+            try {
+                URL url = new URL(ClassPathIndex.toBaseUrl(added), name);
+                if (openIfExists(url) != null) {
+                    return url;
+                }
+            } catch (IOException ex) {
+                // Ignore
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 不需要 url 编码的资源名才通过索引直接拼接 url, 其他名称交给 {@link URLClassLoader} 处理
+     *
+     * @param name name
+     * @return the boolean
+     * @since 2026.1.0
+     */
+    private static boolean isPlainName(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            char ch = name.charAt(i);
+            if (!((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9') || ch == '/' || ch == '.'
+                || ch == '_' || ch == '$' || ch == '-')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 打开资源连接, 资源不存在时返回 {@code null}
+     *
+     * @param url url
+     * @return the url connection
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    private static URLConnection openIfExists(URL url) throws IOException {
+        URLConnection connection = url.openConnection();
+        try {
+            if (connection instanceof JarURLConnection) {
+                ((JarURLConnection) connection).getJarEntry();
+            } else {
+                connection.getInputStream().close();
+            }
+            return connection;
+        } catch (FileNotFoundException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * 读取 class 字节码并定义, 与 {@link URLClassLoader} 一样以归档 url 作为 {@link CodeSource},
+     * 包通过 {@link #definePackageIfNecessary(String)} 定义, 并做同样的包密封检查.
+     *
+     * @param name          class name
+     * @param connection    class 文件的连接
+     * @param codeSourceUrl 归档 url
+     * @return the class
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    private Class<?> defineClass(String name, URLConnection connection, URL codeSourceUrl) throws IOException {
+        byte[] bytes;
+        try (InputStream inputStream = connection.getInputStream()) {
+            bytes = readAll(inputStream, connection.getContentLength());
+        }
+        CodeSigner[] signers = null;
+        Manifest manifest = null;
+        if (connection instanceof JarURLConnection) {
+            JarURLConnection jarConnection = (JarURLConnection) connection;
+            JarEntry entry = jarConnection.getJarEntry();
+            signers = (entry != null) ? entry.getCodeSigners() : null;
+            manifest = jarConnection.getManifest();
+        }
+        int lastDot = name.lastIndexOf('.');
+        if (lastDot >= 0) {
+            this.definePackageIfNecessary(name);
+            this.verifyPackage(name.substring(0, lastDot), manifest, codeSourceUrl);
+        }
+        return this.defineClass(name, bytes, 0, bytes.length, new CodeSource(codeSourceUrl, signers));
+    }
+
+    /**
+     * 与 {@link URLClassLoader} 定义 class 前的处理一致: 包不存在时定义包, 已存在时检查包密封
+     *
+     * @param packageName package name
+     * @param manifest    manifest, 可以为 {@code null}
+     * @param url         code source url
+     * @since 2026.1.0
+     */
+    private void verifyPackage(String packageName, Manifest manifest, URL url) {
+        Package pkg = this.getPackage(packageName);
+        if (pkg == null) {
+            try {
+                if (manifest != null) {
+                    this.definePackage(packageName, manifest, url);
+                } else {
+                    this.definePackage(packageName, null, null, null, null, null, null, null);
+                }
+            } catch (IllegalArgumentException ex) {
+                // Tolerate race condition due to being parallel capable
+            }
+            return;
+        }
+        if (pkg.isSealed()) {
+            if (!pkg.isSealed(url)) {
+                throw new SecurityException("sealing violation: package " + packageName + " is sealed");
+            }
+        } else if (manifest != null && isSealed(packageName, manifest)) {
+            throw new SecurityException("sealing violation: can't seal package " + packageName + ": already loaded");
+        }
+    }
+
+    /**
+     * manifest 中是否声明了包密封
+     *
+     * @param packageName package name
+     * @param manifest    manifest
+     * @return the boolean
+     * @since 2026.1.0
+     */
+    private static boolean isSealed(String packageName, Manifest manifest) {
+        Attributes attributes = manifest.getAttributes(packageName.replace('.', '/').concat("/"));
+        String sealed = (attributes != null) ? attributes.getValue(Attributes.Name.SEALED) : null;
+        if (sealed == null) {
+            attributes = manifest.getMainAttributes();
+            sealed = (attributes != null) ? attributes.getValue(Attributes.Name.SEALED) : null;
+        }
+        return "true".equalsIgnoreCase(sealed);
+    }
+
+    /**
+     * Read all byte [ ]
+     *
+     * @param inputStream input stream
+     * @param length      length, or -1 if unknown
+     * @return the byte [ ]
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    private static byte[] readAll(InputStream inputStream, int length) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream((length > 0) ? length : 4096);
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+        return outputStream.toByteArray();
+    }
+
     /**
      * Define a package before a {@code findClass} call is made. This is necessary to
      * ensure that the appropriate manifest for nested JARs is associated with the
@@ -147,7 +582,7 @@ public class LaunchedURLClassLoader extends URLClassLoader {
             AccessController.doPrivileged((PrivilegedExceptionAction<Object>) () -> {
                 String packageEntryName = packageName.replace('.', '/') + "/";
                 String classEntryName = className.replace('.', '/') + ".class";
-                for (URL url : this.getURLs()) {
+                for (URL url : this.getPackageOwnerUrls(classEntryName)) {
                     try {
                         URLConnection connection = url.openConnection();
                         if (connection instanceof JarURLConnection) {
@@ -169,6 +604,25 @@ public class LaunchedURLClassLoader extends URLClassLoader {
         }
     }
 
+    /**
+     * 定义包时需要检查的 url, 使用包索引时只检查拥有该 class 所在包的归档, 没有归档拥有该包时检查所有 url
+     *
+     * @param classEntryName class entry name
+     * @return the url [ ]
+     * @since 2026.1.0
+     */
+    private URL[] getPackageOwnerUrls(String classEntryName) {
+        int[] owners = (this.index != null) ? this.index.getOwners(classEntryName) : null;
+        if (owners == null || owners.length == 0) {
+            return this.getURLs();
+        }
+        URL[] urls = new URL[owners.length];
+        for (int i = 0; i < owners.length; i++) {
+            urls[i] = this.index.getUrl(owners[i]);
+        }
+        return urls;
+    }
+
     /**
      * Clear URL caches.
      *
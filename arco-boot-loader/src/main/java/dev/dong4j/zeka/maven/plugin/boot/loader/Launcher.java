@@ -4,6 +4,8 @@ import dev.dong4j.zeka.maven.plugin.boot.loader.archive.Archive;
 import dev.dong4j.zeka.maven.plugin.boot.loader.archive.ExplodedArchive;
 import dev.dong4j.zeka.maven.plugin.boot.loader.archive.JarFileArchive;
 import dev.dong4j.zeka.maven.plugin.boot.loader.jar.CustomJarFile;
+import dev.dong4j.zeka.maven.plugin.boot.loader.util.LaunchPhase;
+import dev.dong4j.zeka.maven.plugin.boot.loader.util.LoaderMetrics;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
@@ -27,6 +29,9 @@ import java.util.List;
 @SuppressWarnings("all")
 public abstract class Launcher {
 
+    /** DEBUG */
+    private static final String DEBUG = "loader.debug";
+
     /**
      * Launch the application. This method is the initial entry point that should be
      * called by a subclass {@code public static void main(String[] args)} method.
@@ -35,12 +40,24 @@ public abstract class Launcher {
      * @throws Exception if the application fails to launch
      * @since 1.0.0
      */
+    @SuppressWarnings("try")
     protected void launch(String[] args) throws Exception {
         CustomJarFile.registerUrlProtocolHandler();
+        List<Archive> archives;
+        try (LaunchPhase.Timing ignored = LaunchPhase.ARCHIVES.start()) {
+            archives = this.getClassPathArchives();
+        }
         // 生成自定义 ClassLoader
-        ClassLoader classLoader = this.createClassLoader(this.getClassPathArchives());
+        ClassLoader classLoader;
+        try (LaunchPhase.Timing ignored = LaunchPhase.CLASS_LOADER.start()) {
+            classLoader = this.createClassLoader(archives);
+        }
+        String mainClass;
+        try (LaunchPhase.Timing ignored = LaunchPhase.PROPERTIES.start()) {
+            mainClass = this.getMainClass();
+        }
         // 启动应用
-        this.launch(args, this.getMainClass(), classLoader);
+        this.launch(args, mainClass, classLoader);
     }
 
     /**
@@ -52,6 +69,9 @@ public abstract class Launcher {
      * @since 1.0.0
      */
     protected ClassLoader createClassLoader(@NotNull List<Archive> archives) throws Exception {
+        if (ClassPathIndex.isEnabled()) {
+            return new LaunchedURLClassLoader(ClassPathIndex.of(archives), this.getClass().getClassLoader());
+        }
         List<URL> urls = new ArrayList<>(archives.size());
         for (Archive archive : archives) {
             urls.add(archive.getUrl());
@@ -80,10 +100,51 @@ public abstract class Launcher {
      * @since 1.0.0
      */
     protected void launch(String[] args, String mainClass, ClassLoader classLoader) throws Exception {
+        launch(classLoader, this.createMainMethodRunner(mainClass, args, classLoader));
+    }
+
+    /**
+     * 使用已经创建好的 class loader 启动应用: 回放预加载, 设置线程上下文类加载器, 处理 CDS 训练并执行 main 方法.
+     * 不通过 {@link Archive} 生成 classpath 的启动器 (例如展开目录使用的 ExplodedLauncher) 直接调用此方法.
+     *
+     * @param classLoader the classloader
+     * @param runner      the main method runner
+     * @throws Exception if the launch fails
+     * @since 2026.1.0
+     */
+    public static void launch(ClassLoader classLoader, MainMethodRunner runner) throws Exception {
+        // 设置了 loader.preload 时在后台线程中回放上次启动记录的 class
+        ClassPreloader.start(classLoader);
         // 将自定义 ClassLoader 设置为当前线程上下文类加载器
         Thread.currentThread().setContextClassLoader(classLoader);
+        // CDS 训练模式下启动完成后退出 JVM, 由 -XX:ArchiveClassesAtExit 写入归档
+        boolean training = CdsTraining.start();
+        // main 方法可能不会返回, 先输出 loader 部分的耗时
+        debugSummary();
         // 启动应用
-        this.createMainMethodRunner(mainClass, args, classLoader).run();
+        try {
+            runner.run();
+        } catch (Exception ex) {
+            if (training) {
+                CdsTraining.fail(ex);
+            }
+            throw ex;
+        }
+        debugSummary();
+        if (training) {
+            CdsTraining.finish();
+        }
+    }
+
+    /**
+     * 开启 {@code loader.debug} 时输出各阶段耗时和 loader 计数器
+     *
+     * @since 2026.1.0
+     */
+    private static void debugSummary() {
+        if (Boolean.getBoolean(DEBUG)) {
+            System.out.println(LaunchPhase.summary());
+        }
     }
 
     /**
@@ -136,6 +197,7 @@ public abstract class Launcher {
         if (!root.exists()) {
             throw new IllegalStateException("Unable to determine code source archive from " + root);
         }
+        LoaderMetrics.LAUNCHER_ARCHIVE_OPENS.increment();
         return (root.isDirectory() ? new ExplodedArchive(root) : new JarFileArchive(root));
     }
 
@@ -1,5 +1,7 @@
 package dev.dong4j.zeka.maven.plugin.boot.loader;
 
+import dev.dong4j.zeka.maven.plugin.boot.loader.util.LaunchPhase;
+
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -47,16 +49,19 @@ public class MainMethodRunner {
      * @throws Exception exception
      * @since 1.0.0
      */
+    @SuppressWarnings("try")
     public void run() throws Exception {
-        // 加载应用程序主入口类
-        Class<?> mainClass = this.classLoader.loadClass(this.mainClassName);
-
-        Method method;
-        for (method = null; mainClass != Object.class; mainClass = mainClass.getSuperclass()) {
-            try {
-                method = mainClass.getDeclaredMethod(MAIN_METHOD_NAME, String[].class);
-                break;
-            } catch (Exception ignored) {
+        Method method = null;
+        try (LaunchPhase.Timing ignored = LaunchPhase.MAIN_CLASS.start()) {
+            // 加载应用程序主入口类
+            Class<?> mainClass = this.classLoader.loadClass(this.mainClassName);
+            for (; mainClass != Object.class; mainClass = mainClass.getSuperclass()) {
+                try {
+                    method = mainClass.getDeclaredMethod(MAIN_METHOD_NAME, String[].class);
+                    break;
+                } catch (Exception ex) {
+                    // Ignore
+                }
             }
         }
 
@@ -64,7 +69,9 @@ public class MainMethodRunner {
             Set<String> argsSet = new HashSet<>(this.args.length == 0 ? 1 : this.args.length + 1);
             argsSet.add(START_CLASS_ARGS + this.mainClassName);
             argsSet.addAll(Arrays.asList(this.args));
-            method.invoke(null, new Object[]{argsSet.toArray(new String[0])});
+            try (LaunchPhase.Timing ignored = LaunchPhase.MAIN_METHOD.start()) {
+                method.invoke(null, new Object[]{argsSet.toArray(new String[0])});
+            }
         }
     }
 
@@ -3,6 +3,8 @@ package dev.dong4j.zeka.maven.plugin.boot.loader;
 import dev.dong4j.zeka.maven.plugin.boot.loader.archive.Archive;
 import dev.dong4j.zeka.maven.plugin.boot.loader.archive.ExplodedArchive;
 import dev.dong4j.zeka.maven.plugin.boot.loader.archive.JarFileArchive;
+import dev.dong4j.zeka.maven.plugin.boot.loader.util.LaunchPhase;
+import dev.dong4j.zeka.maven.plugin.boot.loader.util.LoaderMetrics;
 import dev.dong4j.zeka.maven.plugin.boot.loader.util.SystemPropertyUtils;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -20,6 +22,7 @@ import java.net.URL;
 import java.net.URLConnection;
 import java.net.URLDecoder;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -126,20 +129,33 @@ public class PropertiesLauncher extends Launcher {
     private List<String> paths = new ArrayList<>();
     /** Properties */
     private final Properties properties = new Properties();
-    /** Parent */
-    private final Archive parent;
+    /** Parent, 第一次读取 manifest 时创建, 之后一直复用 */
+    private Archive parent;
+    /** 主目录的 manifest, 只读取一次 */
+    private Manifest homeManifest;
+    /** 是否已经读取过主目录的 manifest */
+    private boolean homeManifestLoaded;
+    /** Parent 归档的 manifest, 只读取一次 */
+    private Manifest parentManifest;
+    /** 是否已经读取过 parent 归档的 manifest */
+    private boolean parentManifestLoaded;
 
     /**
      * Properties launcher
      *
      * @since 1.5.0
      */
+    @SuppressWarnings("try")
     public PropertiesLauncher() {
-        try {
+        try (LaunchPhase.Timing ignored = LaunchPhase.PROPERTIES.start()) {
             this.homeFile = this.getHomeDirectory();
             this.initializeProperties();
             this.initializePaths();
-            this.parent = this.createArchive();
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+        try (LaunchPhase.Timing ignored = LaunchPhase.ARCHIVES.start()) {
+            this.parent = this.getParentArchive();
         } catch (Exception ex) {
             throw new IllegalStateException(ex);
         }
@@ -452,12 +468,20 @@ public class PropertiesLauncher extends Launcher {
      */
     @Override
     protected ClassLoader createClassLoader(@NotNull List<Archive> archives) throws Exception {
-        Set<URL> urls = new LinkedHashSet<>(archives.size());
-        for (Archive archive : archives) {
-            urls.add(archive.getUrl());
+        ClassLoader loader;
+        if (ClassPathIndex.isEnabled()) {
+            ClassPathIndex index = ClassPathIndex.of(archives);
+            loader = new LaunchedURLClassLoader(index, this.getClass().getClassLoader());
+            this.debug("Classpath: " + Arrays.asList(index.getUrls()));
+            this.debug("Package index: " + index);
+        } else {
+            Set<URL> urls = new LinkedHashSet<>(archives.size());
+            for (Archive archive : archives) {
+                urls.add(archive.getUrl());
+            }
+            loader = new LaunchedURLClassLoader(urls.toArray(NO_URLS), this.getClass().getClassLoader());
+            this.debug("Classpath: " + urls);
         }
-        ClassLoader loader = new LaunchedURLClassLoader(urls.toArray(NO_URLS), this.getClass().getClassLoader());
-        this.debug("Classpath: " + urls);
         String customLoaderClassName = this.getProperty("loader.classLoader");
         if (customLoaderClassName != null) {
             loader = this.wrapWithCustomClassLoader(loader, customLoaderClassName);
@@ -562,25 +586,17 @@ public class PropertiesLauncher extends Launcher {
             this.debug("Property '" + propertyKey + "' from properties: " + value);
             return value;
         }
-        try {
-            if (this.homeFile != null) {
-                // Prefer home dir for MANIFEST if there is one
-                try (ExplodedArchive archive = new ExplodedArchive(this.homeFile, false)) {
-                    Manifest manifest = archive.getManifest();
-                    if (manifest != null) {
-                        String value = manifest.getMainAttributes().getValue(manifestKey);
-                        if (value != null) {
-                            this.debug("Property '" + manifestKey + "' from home directory manifest: " + value);
-                            return SystemPropertyUtils.resolvePlaceholders(this.properties, value);
-                        }
-                    }
-                }
+        // Prefer home dir for MANIFEST if there is one
+        Manifest homeManifest = this.getHomeManifest();
+        if (homeManifest != null) {
+            String value = homeManifest.getMainAttributes().getValue(manifestKey);
+            if (value != null) {
+                this.debug("Property '" + manifestKey + "' from home directory manifest: " + value);
+                return SystemPropertyUtils.resolvePlaceholders(this.properties, value);
             }
-        } catch (IllegalStateException ex) {
-            // Ignore
         }
         // Otherwise try the parent archive
-        Manifest manifest = this.createArchive().getManifest();
+        Manifest manifest = this.getParentManifest();
         if (manifest != null) {
             String value = manifest.getMainAttributes().getValue(manifestKey);
             if (value != null) {
@@ -592,6 +608,60 @@ public class PropertiesLauncher extends Launcher {
             : null;
     }
 
+    /**
+     * 主目录的 manifest, 只在主目录确定后读取一次; 主目录不存在或无法读取时为 null
+     *
+     * @return the home manifest
+     * @throws Exception exception
+     * @since 2026.1.0
+     */
+    private @Nullable Manifest getHomeManifest() throws Exception {
+        if (this.homeFile == null) {
+            return null;
+        }
+        if (!this.homeManifestLoaded) {
+            try {
+                LoaderMetrics.LAUNCHER_ARCHIVE_OPENS.increment();
+                try (ExplodedArchive archive = new ExplodedArchive(this.homeFile, false)) {
+                    this.homeManifest = archive.getManifest();
+                }
+            } catch (IllegalStateException ex) {
+                // Ignore
+            }
+            this.homeManifestLoaded = true;
+        }
+        return this.homeManifest;
+    }
+
+    /**
+     * Parent 归档的 manifest, 只读取一次
+     *
+     * @return the parent manifest
+     * @throws Exception exception
+     * @since 2026.1.0
+     */
+    private @Nullable Manifest getParentManifest() throws Exception {
+        if (!this.parentManifestLoaded) {
+            this.parentManifest = this.getParentArchive().getManifest();
+            this.parentManifestLoaded = true;
+        }
+        return this.parentManifest;
+    }
+
+    /**
+     * 启动器所在的归档, 只打开一次
+     *
+     * @return the parent archive
+     * @throws Exception exception
+     * @since 2026.1.0
+     */
+    private Archive getParentArchive() throws Exception {
+        if (this.parent == null) {
+            this.parent = this.createArchive();
+        }
+        return this.parent;
+    }
+
     /**
      * Gets class path archives *
      *
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.List;
+import java.util.Set;
 import java.util.jar.Manifest;
 
 /**
@@ -46,6 +47,29 @@ public interface Archive extends Iterable<Archive.Entry>, AutoCloseable {
      */
     List<Archive> getNestedArchives(EntryFilter filter) throws IOException;
 
+    /**
+     * 获取归档中所有条目所在的包 (目录) 名, 格式为 {@code com/example}, 根目录为空字符串, 用于构建 class path 的包索引.
+     * 返回 {@code null} 表示无法确定, 此时任何查找都会探测该归档.
+     *
+     * @return the package names or {@code null}
+     * @since 2026.1.0
+     */
+    default Set<String> getPackageNames() {
+        return null;
+    }
+
+    /**
+     * 判断归档中是否存在指定条目, 返回 false 时条目一定不存在.
+     * 默认总是返回 true, 表示需要实际查找.
+     *
+     * @param name 条目名, 例如 {@code com/example/Foo.class}
+     * @return the boolean
+     * @since 2026.1.0
+     */
+    default boolean containsEntry(String name) {
+        return true;
+    }
+
     /**
      * Closes the {@code Archive}, releasing any open resources.
      *
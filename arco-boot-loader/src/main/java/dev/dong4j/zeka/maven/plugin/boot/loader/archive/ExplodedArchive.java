@@ -123,13 +123,13 @@ public class ExplodedArchive implements Archive {
      */
     @Override
     public List<Archive> getNestedArchives(EntryFilter filter) throws IOException {
-        List<Archive> nestedArchives = new ArrayList<>();
+        List<Entry> entries = new ArrayList<>();
         for (Entry entry : this) {
             if (filter.matches(entry)) {
-                nestedArchives.add(this.getNestedArchive(entry));
+                entries.add(entry);
             }
         }
-        return Collections.unmodifiableList(nestedArchives);
+        return NestedArchives.open(entries, this::getNestedArchive);
     }
 
     /**
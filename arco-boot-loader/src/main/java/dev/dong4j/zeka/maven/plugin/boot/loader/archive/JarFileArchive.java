@@ -3,18 +3,16 @@ package dev.dong4j.zeka.maven.plugin.boot.loader.archive;
 import dev.dong4j.zeka.maven.plugin.boot.loader.jar.CustomJarFile;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.UUID;
+import java.util.Set;
 import java.util.jar.JarEntry;
 import java.util.jar.Manifest;
 
@@ -32,17 +30,14 @@ public class JarFileArchive implements Archive {
     /** UNPACK_MARKER */
     private static final String UNPACK_MARKER = "UNPACK:";
 
-    /** BUFFER_SIZE */
-    private static final int BUFFER_SIZE = 32 * 1024;
-
     /** Jar file */
     private final CustomJarFile jarFile;
 
     /** Url */
     private URL url;
 
-    /** Temp unpack folder */
-    private File tempUnpackFolder;
+    /** Unpack cache */
+    private UnpackCache unpackCache;
 
     /**
      * Jar file archive
@@ -105,6 +100,29 @@ public class JarFileArchive implements Archive {
         return this.jarFile.getManifest();
     }
 
+    /**
+     * Gets package names *
+     *
+     * @return the package names
+     * @since 2026.1.0
+     */
+    @Override
+    public Set<String> getPackageNames() {
+        return this.jarFile.getPackageNames();
+    }
+
+    /**
+     * Contains entry boolean
+     *
+     * @param name name
+     * @return the boolean
+     * @since 2026.1.0
+     */
+    @Override
+    public boolean containsEntry(String name) {
+        return this.jarFile.containsEntry(name);
+    }
+
     /**
      * Gets nested archives *
      *
@@ -115,13 +133,13 @@ public class JarFileArchive implements Archive {
      */
     @Override
     public List<Archive> getNestedArchives(EntryFilter filter) throws IOException {
-        List<Archive> nestedArchives = new ArrayList<>();
+        List<Entry> entries = new ArrayList<>();
         for (Entry entry : this) {
             if (filter.matches(entry)) {
-                nestedArchives.add(this.getNestedArchive(entry));
+                entries.add(entry);
             }
         }
-        return Collections.unmodifiableList(nestedArchives);
+        return NestedArchives.open(entries, this::getNestedArchive);
     }
 
     /**
@@ -175,68 +193,32 @@ public class JarFileArchive implements Archive {
      * @since 1.0.0
      */
     private Archive getUnpackedNestedArchive(JarEntry jarEntry) throws IOException {
-        String name = jarEntry.getName();
-        if (name.lastIndexOf('/') != -1) {
-            name = name.substring(name.lastIndexOf('/') + 1);
-        }
-        File file = new File(this.getTempUnpackFolder(), name);
-        if (!file.exists() || file.length() != jarEntry.getSize()) {
-            this.unpack(jarEntry, file);
-        }
+        File file = this.getUnpackCache().get(jarEntry, () -> this.jarFile.getInputStream(jarEntry));
         return new JarFileArchive(file, file.toURI().toURL());
     }
 
     /**
-     * Gets temp unpack folder *
+     * 第一次解压时创建缓存, 开启清理时删除当前 jar 不再需要的过期目录
      *
-     * @return the temp unpack folder
-     * @since 1.0.0
-     */
-    private File getTempUnpackFolder() {
-        if (this.tempUnpackFolder == null) {
-            File tempFolder = new File(System.getProperty("java.io.tmpdir"));
-            this.tempUnpackFolder = this.createUnpackFolder(tempFolder);
-        }
-        return this.tempUnpackFolder;
-    }
-
-    /**
-     * Create unpack folder file
-     *
-     * @param parent parent
-     * @return the file
-     * @since 1.0.0
-     */
-    private File createUnpackFolder(File parent) {
-        int attempts = 0;
-        while (attempts++ < 1000) {
-            String fileName = new File(this.jarFile.getName()).getName();
-            File unpackFolder = new File(parent, fileName + "-spring-boot-libs-" + UUID.randomUUID());
-            if (unpackFolder.mkdirs()) {
-                return unpackFolder;
-            }
-        }
-        throw new IllegalStateException("Failed to create unpack folder in directory '" + parent + "'");
-    }
-
-    /**
-     * Unpack *
-     *
-     * @param entry entry
-     * @param file  file
-     * @throws IOException io exception
-     * @since 1.0.0
+     * @return the unpack cache
+     * @since 2026.1.0
      */
-    private void unpack(JarEntry entry, File file) throws IOException {
-        try (InputStream inputStream = this.jarFile.getInputStream(entry);
-             OutputStream outputStream = new FileOutputStream(file)) {
-            byte[] buffer = new byte[BUFFER_SIZE];
-            int bytesRead;
-            while ((bytesRead = inputStream.read(buffer)) != -1) {
-                outputStream.write(buffer, 0, bytesRead);
+    private synchronized UnpackCache getUnpackCache() {
+        if (this.unpackCache == null) {
+            UnpackCache unpackCache = UnpackCache.create(new File(this.jarFile.getName()).getName());
+            if (unpackCache.isCleanupEnabled()) {
+                Set<String> keys = new HashSet<>();
+                for (JarEntry entry : Collections.list(this.jarFile.entries())) {
+                    String comment = entry.getComment();
+                    if (comment != null && comment.startsWith(UNPACK_MARKER)) {
+                        keys.add(UnpackCache.getKey(entry));
+                    }
+                }
+                unpackCache.cleanup(keys);
             }
-            outputStream.flush();
+            this.unpackCache = unpackCache;
         }
+        return this.unpackCache;
     }
 
     /**
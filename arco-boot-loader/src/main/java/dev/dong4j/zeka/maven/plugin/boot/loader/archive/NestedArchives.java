@@ -0,0 +1,148 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader.archive;
+
+import dev.dong4j.zeka.maven.plugin.boot.loader.ClassPathIndex;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * 打开嵌套归档的帮助类.
+ * 默认依次打开; 设置 {@code -Dloader.parallelOpen=true} 后在一个小的 {@link ForkJoinPool} 上并行打开,
+ * 同时预先计算包索引需要的包名 (解析 central directory), 返回结果的顺序始终与条目顺序一致.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 15:10
+ * @since 2026.1.0
+ */
+final class NestedArchives {
+
+    /** 是否并行打开嵌套归档的系统属性, 默认关闭 */
+    static final String PARALLEL_OPEN_PROPERTY = "loader.parallelOpen";
+
+    /** 并行度上限, 打开归档主要是 I/O 和 central directory 解析, 更多的线程收益不大 */
+    private static final int MAX_PARALLELISM = 4;
+
+    /**
+     * Nested archives
+     *
+     * @since 2026.1.0
+     */
+    private NestedArchives() {
+    }
+
+    /**
+     * 打开所有条目对应的归档, 结果顺序与 {@code entries} 一致
+     *
+     * @param <E>     entry type
+     * @param entries entries
+     * @param opener  opener
+     * @return the list
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    static <E> List<Archive> open(List<E> entries, Opener<E> opener) throws IOException {
+        if (entries.size() < 2 || !Boolean.getBoolean(PARALLEL_OPEN_PROPERTY)) {
+            List<Archive> archives = new ArrayList<>(entries.size());
+            for (E entry : entries) {
+                archives.add(opener.open(entry));
+            }
+            return Collections.unmodifiableList(archives);
+        }
+        boolean indexPackages = ClassPathIndex.isEnabled();
+        List<Future<Archive>> futures = new ArrayList<>(entries.size());
+        for (E entry : entries) {
+            futures.add(PoolHolder.POOL.submit(() -> {
+                Archive archive = opener.open(entry);
+                if (indexPackages) {
+                    archive.getPackageNames();
+                }
+                return archive;
+            }));
+        }
+        Archive[] archives = new Archive[futures.size()];
+        for (int i = 0; i < archives.length; i++) {
+            archives[i] = get(futures.get(i));
+        }
+        return Collections.unmodifiableList(Arrays.asList(archives));
+    }
+
+    /**
+     * 获取结果, 将任务中的异常原样抛出
+     *
+     * @param future future
+     * @return the archive
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    private static Archive get(Future<Archive> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while opening nested archives", ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * 打开单个条目对应的归档
+     *
+     * @param <E> entry type
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 15:10
+     * @since 2026.1.0
+     */
+    @FunctionalInterface
+    interface Opener<E> {
+
+        /**
+         * Open archive
+         *
+         * @param entry entry
+         * @return the archive
+         * @throws IOException io exception
+         * @since 2026.1.0
+         */
+        Archive open(E entry) throws IOException;
+
+    }
+
+    /**
+     * 按需创建线程池, 工作线程为守护线程, 空闲后自动回收
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 15:10
+     * @since 2026.1.0
+     */
+    private static final class PoolHolder {
+
+        /** POOL */
+        private static final ForkJoinPool POOL = new ForkJoinPool(
+            Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), MAX_PARALLELISM)));
+
+    }
+
+}
@@ -0,0 +1,377 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader.archive;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.zip.CRC32;
+
+/**
+ * {@code UNPACK:} 标记的嵌套 jar 的解压缓存.
+ * 解压到 {@code <root>/<crc>-<size>/<name>}, 目录由条目的 CRC 和大小决定, 因此内容不变的 jar 在重启后直接复用, 不需要任何读写;
+ * 写入先写临时文件再重命名, 其他进程或中断的启动不会看到不完整的文件; 每个缓存实例第一次复用文件前校验 CRC, 不一致时重新解压.
+ * <ul>
+ *     <li>{@code root} 默认为 {@code ${java.io.tmpdir}/<jar name>-spring-boot-libs}, 可以通过 {@code -Dloader.unpack.dir} 设置;
+ *     不存在时创建为只有当前用户可以访问的目录 ({@code rwx------}). 目录无法写入, 不属于当前用户 (例如其他用户预先创建了可预测的目录)
+ *     或其他用户可以写入时, 退回到每次启动新建的随机目录;</li>
+ *     <li>设置 {@code -Dloader.unpack.maxAgeDays} 后, 启动时删除超过指定天数未使用且当前 jar 不需要的目录, 复用的目录会更新修改时间.</li>
+ * </ul>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 22:40
+ * @since 2026.1.0
+ */
+final class UnpackCache {
+
+    /** 解压根目录的系统属性 */
+    static final String DIR_PROPERTY = "loader.unpack.dir";
+
+    /** 清理未使用目录的天数的系统属性, 默认不清理 */
+    static final String MAX_AGE_DAYS_PROPERTY = "loader.unpack.maxAgeDays";
+
+    /** BUFFER_SIZE */
+    private static final int BUFFER_SIZE = 32 * 1024;
+
+    /** TEMP_PREFIX */
+    private static final String TEMP_PREFIX = ".unpack-";
+
+    /** Root */
+    private final File root;
+
+    /** 是否按内容复用, 退回到随机目录时为 false */
+    private final boolean shared;
+
+    /** 超过该时间未使用的目录会被清理, 小于 0 时不清理 */
+    private final long maxAge;
+
+    /** 已经校验过 CRC 或由当前实例写入的文件 */
+    private final Set<String> verified = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Unpack cache
+     *
+     * @param root   root
+     * @param shared shared
+     * @param maxAge max age (毫秒)
+     * @since 2026.1.0
+     */
+    UnpackCache(File root, boolean shared, long maxAge) {
+        this.root = root;
+        this.shared = shared;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * 根据系统属性创建外层 jar 使用的缓存
+     *
+     * @param jarFileName 外层 jar 的文件名
+     * @return the unpack cache
+     * @since 2026.1.0
+     */
+    static UnpackCache create(String jarFileName) {
+        File tempFolder = new File(System.getProperty("java.io.tmpdir"));
+        String dir = System.getProperty(DIR_PROPERTY);
+        File root = (dir != null) ? new File(dir) : new File(tempFolder, jarFileName + "-spring-boot-libs");
+        if (isPrivateDirectory(root)) {
+            return new UnpackCache(root, true, getMaxAge());
+        }
+        return new UnpackCache(createUnpackFolder(tempFolder, jarFileName), false, -1);
+    }
+
+    /**
+     * 返回条目解压后的文件, 已经存在时直接复用
+     *
+     * @param entry  entry
+     * @param source 条目内容
+     * @return the file
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    File get(JarEntry entry, Source source) throws IOException {
+        String name = entry.getName();
+        if (name.lastIndexOf('/') != -1) {
+            name = name.substring(name.lastIndexOf('/') + 1);
+        }
+        File directory = this.shared ? new File(this.root, getKey(entry)) : this.root;
+        File file = new File(directory, name);
+        if (file.isFile() && file.length() == entry.getSize() && this.isIntact(file, entry)) {
+            if (this.maxAge >= 0) {
+                directory.setLastModified(System.currentTimeMillis());
+            }
+            return file;
+        }
+        directory.mkdirs();
+        File temp = File.createTempFile(TEMP_PREFIX, null, directory);
+        try {
+            unpack(source, temp);
+            move(temp, file);
+        } finally {
+            temp.delete();
+        }
+        this.verified.add(file.getPath());
+        return file;
+    }
+
+    /**
+     * 已经存在的文件第一次复用前校验 CRC
+     *
+     * @param file  file
+     * @param entry entry
+     * @return the boolean
+     * @since 2026.1.0
+     */
+    private boolean isIntact(File file, JarEntry entry) {
+        if (this.verified.contains(file.getPath())) {
+            return true;
+        }
+        CRC32 crc = new CRC32();
+        try (InputStream inputStream = new FileInputStream(file)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int bytesRead;
+            while ((bytesRead = inputStream.read(buffer)) != -1) {
+                crc.update(buffer, 0, bytesRead);
+            }
+        } catch (IOException ex) {
+            return false;
+        }
+        if (crc.getValue() != entry.getCrc()) {
+            return false;
+        }
+        this.verified.add(file.getPath());
+        return true;
+    }
+
+    /**
+     * 删除超过 {@code loader.unpack.maxAgeDays} 未使用的目录, 不会删除 {@code keys} 中的目录; 未开启时什么也不做
+     *
+     * @param keys 当前 jar 需要的目录, 见 {@link #getKey(JarEntry)}
+     * @since 2026.1.0
+     */
+    void cleanup(Collection<String> keys) {
+        if (!this.shared || this.maxAge < 0) {
+            return;
+        }
+        File[] directories = this.root.listFiles(File::isDirectory);
+        if (directories == null) {
+            return;
+        }
+        long expiry = System.currentTimeMillis() - this.maxAge;
+        for (File directory : directories) {
+            if (!keys.contains(directory.getName()) && directory.lastModified() < expiry) {
+                delete(directory);
+            }
+        }
+    }
+
+    /**
+     * 是否开启了清理, 开启时调用者需要收集当前 jar 需要的目录
+     *
+     * @return the boolean
+     * @since 2026.1.0
+     */
+    boolean isCleanupEnabled() {
+        return this.shared && this.maxAge >= 0;
+    }
+
+    /**
+     * 条目对应的目录名, 由 CRC 和大小组成
+     *
+     * @param entry entry
+     * @return the key
+     * @since 2026.1.0
+     */
+    static String getKey(JarEntry entry) {
+        return String.format("%08x-%d", entry.getCrc(), entry.getSize());
+    }
+
+    /**
+     * 根目录只允许当前用户使用: 不存在时创建为 {@code rwx------}; 已经存在时必须是当前用户所有的目录 (不能是符号链接),
+     * 并且其他用户不能写入. 所有者通过在目录中创建的临时文件确定, 不依赖用户名解析
+     *
+     * @param root root
+     * @return the boolean
+     * @since 2026.1.0
+     */
+    private static boolean isPrivateDirectory(File root) {
+        Path path = root.toPath();
+        try {
+            if (!Files.exists(path, LinkOption.NOFOLLOW_LINKS)) {
+                createPrivateDirectory(path);
+            }
+            if (!Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS) || !root.canWrite()) {
+                return false;
+            }
+            Path probe = Files.createTempFile(path, TEMP_PREFIX, null);
+            try {
+                if (!Files.getOwner(probe).equals(Files.getOwner(path, LinkOption.NOFOLLOW_LINKS))) {
+                    return false;
+                }
+            } finally {
+                Files.deleteIfExists(probe);
+            }
+            PosixFileAttributeView view = Files.getFileAttributeView(path, PosixFileAttributeView.class, LinkOption.NOFOLLOW_LINKS);
+            if (view == null) {
+                return true;
+            }
+            Set<PosixFilePermission> permissions = view.readAttributes().permissions();
+            return !permissions.contains(PosixFilePermission.GROUP_WRITE) && !permissions.contains(PosixFilePermission.OTHERS_WRITE);
+        } catch (IOException | UnsupportedOperationException | SecurityException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * 创建只有当前用户可以访问的目录, 文件系统不支持 POSIX 权限时使用默认权限
+     *
+     * @param path path
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    private static void createPrivateDirectory(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try {
+            if (path.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+                Files.createDirectory(path, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+            } else {
+                Files.createDirectory(path);
+            }
+        } catch (FileAlreadyExistsException ex) {
+            // 其他进程同时创建, 由调用者检查所有者
+        }
+    }
+
+    /**
+     * Unpack *
+     *
+     * @param source source
+     * @param file   file
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    private static void unpack(Source source, File file) throws IOException {
+        try (InputStream inputStream = source.open();
+             OutputStream outputStream = new FileOutputStream(file)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int bytesRead;
+            while ((bytesRead = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, bytesRead);
+            }
+            outputStream.flush();
+        }
+    }
+
+    /**
+     * 原子地将临时文件重命名为目标文件, 文件系统不支持时退回到普通的替换
+     *
+     * @param temp temp
+     * @param file file
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    private static void move(File temp, File file) throws IOException {
+        try {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Delete *
+     *
+     * @param file file
+     * @since 2026.1.0
+     */
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+    /**
+     * Gets max age *
+     *
+     * @return the max age
+     * @since 2026.1.0
+     */
+    private static long getMaxAge() {
+        String value = System.getProperty(MAX_AGE_DAYS_PROPERTY);
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return TimeUnit.DAYS.toMillis(Long.parseLong(value.trim()));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    /**
+     * 每次启动新建的随机目录
+     *
+     * @param parent      parent
+     * @param jarFileName jar file name
+     * @return the file
+     * @since 2026.1.0
+     */
+    private static File createUnpackFolder(File parent, String jarFileName) {
+        int attempts = 0;
+        while (attempts++ < 1000) {
+            File unpackFolder = new File(parent, jarFileName + "-spring-boot-libs-" + UUID.randomUUID());
+            if (unpackFolder.mkdirs()) {
+                return unpackFolder;
+            }
+        }
+        throw new IllegalStateException("Failed to create unpack folder in directory '" + parent + "'");
+    }
+
+    /**
+     * 条目内容
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 22:40
+     * @since 2026.1.0
+     */
+    @FunctionalInterface
+    interface Source {
+
+        /**
+         * Open
+         *
+         * @return the input stream
+         * @throws IOException io exception
+         * @since 2026.1.0
+         */
+        InputStream open() throws IOException;
+
+    }
+
+}
@@ -0,0 +1,407 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader.data;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link RandomAccessData} implementation backed by read-only {@link FileChannel#map memory mapped} windows.
+ * 读取不经过任何锁, 每次读取只复制一份 {@link ByteBuffer#duplicate() buffer 视图}, 适合大量线程并发读取同一个 fat jar 的场景.
+ * 所有实例共享一个映射预算 ({@link #BUDGET_PROPERTY}), 超出预算时 {@link #open(File)} 返回 {@code null}, 由调用方回退到
+ * {@link RandomAccessDataFile}.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 10:12
+ * @since 2026.1.0
+ */
+public class MappedRandomAccessData implements RandomAccessData {
+
+    /** 映射预算的系统属性 (字节), 所有被映射的 jar 总大小不超过该值 */
+    public static final String BUDGET_PROPERTY = "loader.io.mmapBudget";
+
+    /** DEFAULT_BUDGET */
+    private static final long DEFAULT_BUDGET = 1024L * 1024 * 1024;
+
+    /** 单个映射窗口的大小 */
+    private static final int WINDOW_SIZE = 64 * 1024 * 1024;
+
+    /** 已使用的映射预算 */
+    private static final AtomicLong MAPPED_BYTES = new AtomicLong();
+
+    /** Mapped file */
+    private final MappedFile mappedFile;
+
+    /** Offset */
+    private final long offset;
+
+    /** Length */
+    private final long length;
+
+    /**
+     * Private constructor used to create a {@link #getSubsection(long, long) subsection}.
+     *
+     * @param mappedFile the underlying mapped file
+     * @param offset     the offset of the section
+     * @param length     the length of the section
+     * @since 2026.1.0
+     */
+    private MappedRandomAccessData(MappedFile mappedFile, long offset, long length) {
+        this.mappedFile = mappedFile;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * 映射指定文件, 如果超出映射预算则返回 {@code null}.
+     *
+     * @param file the underlying file
+     * @return the mapped data or {@code null} if the file does not fit into the mapping budget
+     * @throws IOException if the file cannot be mapped
+     * @since 2026.1.0
+     */
+    public static MappedRandomAccessData open(File file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File must not be null");
+        }
+        long size = file.length();
+        if (!reserve(size)) {
+            return null;
+        }
+        try {
+            MappedFile mappedFile = new MappedFile(file, size);
+            return new MappedRandomAccessData(mappedFile, 0L, size);
+        } catch (IOException | RuntimeException ex) {
+            MAPPED_BYTES.addAndGet(-size);
+            throw ex;
+        }
+    }
+
+    /**
+     * Reserve
+     *
+     * @param size size
+     * @return the boolean
+     * @since 2026.1.0
+     */
+    private static boolean reserve(long size) {
+        long budget = Long.getLong(BUDGET_PROPERTY, DEFAULT_BUDGET);
+        while (true) {
+            long used = MAPPED_BYTES.get();
+            if (used + size > budget) {
+                return false;
+            }
+            if (MAPPED_BYTES.compareAndSet(used, used + size)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns the underlying File.
+     *
+     * @return the underlying file
+     * @since 2026.1.0
+     */
+    public File getFile() {
+        return this.mappedFile.file;
+    }
+
+    /**
+     * Gets input stream *
+     *
+     * @return the input stream
+     * @since 2026.1.0
+     */
+    @Override
+    public InputStream getInputStream() {
+        return new DataInputStream();
+    }
+
+    /**
+     * Gets subsection *
+     *
+     * @param offset offset
+     * @param length length
+     * @return the subsection
+     * @since 2026.1.0
+     */
+    @Override
+    public RandomAccessData getSubsection(long offset, long length) {
+        if (offset < 0 || length < 0 || offset + length > this.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        return new MappedRandomAccessData(this.mappedFile, this.offset + offset, length);
+    }
+
+    /**
+     * Read byte [ ]
+     *
+     * @return the byte [ ]
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    @Override
+    public byte[] read() throws IOException {
+        return this.read(0, this.length);
+    }
+
+    /**
+     * Read byte [ ]
+     *
+     * @param offset offset
+     * @param length length
+     * @return the byte [ ]
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    @Override
+    public byte[] read(long offset, long length) throws IOException {
+        if (offset > this.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (offset + length > this.length) {
+            throw new EOFException();
+        }
+        byte[] bytes = new byte[(int) length];
+        this.mappedFile.read(bytes, this.offset + offset, 0, bytes.length);
+        return bytes;
+    }
+
+    /**
+     * Gets size *
+     *
+     * @return the size
+     * @since 2026.1.0
+     */
+    @Override
+    public long getSize() {
+        return this.length;
+    }
+
+    /**
+     * 释放映射预算, 映射本身在 buffer 被回收时解除.
+     *
+     * @since 2026.1.0
+     */
+    public void close() {
+        this.mappedFile.close();
+    }
+
+    /**
+     * {@link InputStream} implementation for the {@link MappedRandomAccessData}.
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 10:12
+     * @since 2026.1.0
+     */
+    private class DataInputStream extends InputStream {
+
+        /** Position */
+        private long position;
+
+        /**
+         * Read int
+         *
+         * @return the int
+         * @throws IOException io exception
+         * @since 2026.1.0
+         */
+        @Override
+        public int read() throws IOException {
+            if (this.position >= MappedRandomAccessData.this.length) {
+                return -1;
+            }
+            int read = MappedRandomAccessData.this.mappedFile.readByte(MappedRandomAccessData.this.offset + this.position);
+            this.position++;
+            return read;
+        }
+
+        /**
+         * Read int
+         *
+         * @param b   b
+         * @param off off
+         * @param len len
+         * @return the int
+         * @throws IOException io exception
+         * @since 2026.1.0
+         */
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (b == null) {
+                throw new NullPointerException("Bytes must not be null");
+            }
+            if (len == 0) {
+                return 0;
+            }
+            int cappedLen = this.cap(len);
+            if (cappedLen <= 0) {
+                return -1;
+            }
+            MappedRandomAccessData.this.mappedFile.read(b, MappedRandomAccessData.this.offset + this.position, off, cappedLen);
+            this.position += cappedLen;
+            return cappedLen;
+        }
+
+        /**
+         * Skip long
+         *
+         * @param n n
+         * @return the long
+         * @since 2026.1.0
+         */
+        @Override
+        public long skip(long n) {
+            if (n <= 0) {
+                return 0;
+            }
+            int skipped = this.cap(n);
+            this.position += skipped;
+            return skipped;
+        }
+
+        /**
+         * Available int
+         *
+         * @return the int
+         * @since 2026.1.0
+         */
+        @Override
+        public int available() {
+            return this.cap(Integer.MAX_VALUE);
+        }
+
+        /**
+         * Cap the specified value such that it cannot exceed the number of bytes remaining.
+         *
+         * @param n the value to cap
+         * @return the capped value
+         * @since 2026.1.0
+         */
+        private int cap(long n) {
+            return (int) Math.min(MappedRandomAccessData.this.length - this.position, n);
+        }
+
+    }
+
+    /**
+     * 持有整个文件的映射窗口, 由所有 subsection 共享.
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 10:12
+     * @since 2026.1.0
+     */
+    private static final class MappedFile {
+
+        /** File */
+        private final File file;
+
+        /** Size */
+        private final long size;
+
+        /** Windows */
+        private volatile MappedByteBuffer[] windows;
+
+        /**
+         * Mapped file
+         *
+         * @param file file
+         * @param size size
+         * @throws IOException io exception
+         * @since 2026.1.0
+         */
+        private MappedFile(File file, long size) throws IOException {
+            this.file = file;
+            this.size = size;
+            int count = (int) ((size + WINDOW_SIZE - 1) / WINDOW_SIZE);
+            MappedByteBuffer[] buffers = new MappedByteBuffer[count];
+            try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+                 FileChannel channel = randomAccessFile.getChannel()) {
+                for (int i = 0; i < count; i++) {
+                    long position = (long) i * WINDOW_SIZE;
+                    buffers[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(WINDOW_SIZE, size - position));
+                }
+            }
+            this.windows = buffers;
+        }
+
+        /**
+         * Read *
+         *
+         * @param bytes    bytes
+         * @param position position
+         * @param offset   offset
+         * @param length   length
+         * @throws IOException io exception
+         * @since 2026.1.0
+         */
+        private void read(byte[] bytes, long position, int offset, int length) throws IOException {
+            MappedByteBuffer[] buffers = this.windows();
+            while (length > 0) {
+                int windowIndex = (int) (position / WINDOW_SIZE);
+                int windowOffset = (int) (position % WINDOW_SIZE);
+                ByteBuffer window = buffers[windowIndex].duplicate();
+                int count = Math.min(length, window.limit() - windowOffset);
+                window.position(windowOffset);
+                window.get(bytes, offset, count);
+                position += count;
+                offset += count;
+                length -= count;
+            }
+        }
+
+        /**
+         * Read byte int
+         *
+         * @param position position
+         * @return the int
+         * @throws IOException io exception
+         * @since 2026.1.0
+         */
+        private int readByte(long position) throws IOException {
+            MappedByteBuffer[] buffers = this.windows();
+            return buffers[(int) (position / WINDOW_SIZE)].get((int) (position % WINDOW_SIZE)) & 0xFF;
+        }
+
+        /**
+         * Windows mapped byte buffer [ ]
+         *
+         * @return the mapped byte buffer [ ]
+         * @throws IOException io exception
+         * @since 2026.1.0
+         */
+        private MappedByteBuffer[] windows() throws IOException {
+            MappedByteBuffer[] buffers = this.windows;
+            if (buffers == null) {
+                throw new IOException("Mapped file " + this.file + " has been closed");
+            }
+            return buffers;
+        }
+
+        /**
+         * Close
+         *
+         * @since 2026.1.0
+         */
+        private synchronized void close() {
+            if (this.windows != null) {
+                this.windows = null;
+                MAPPED_BYTES.addAndGet(-this.size);
+            }
+        }
+
+    }
+
+}
@@ -2,13 +2,18 @@ package dev.dong4j.zeka.maven.plugin.boot.loader.data;
 
 import java.io.EOFException;
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
 
 /**
- * {@link RandomAccessData} implementation backed by a {@link RandomAccessFile}.
+ * {@link RandomAccessData} implementation backed by a {@link FileChannel}.
  *
  * @author Phillip Webb
  * @version 1.0.0
@@ -18,6 +23,9 @@ import java.io.RandomAccessFile;
  */
 public class RandomAccessDataFile implements RandomAccessData {
 
+    /** 单字节和小块读取使用的预读缓冲区大小 */
+    private static final int READ_AHEAD_BUFFER_SIZE = 8 * 1024;
+
     /** File access */
     private final FileAccess fileAccess;
 
@@ -169,6 +177,7 @@ public class RandomAccessDataFile implements RandomAccessData {
 
     /**
      * {@link InputStream} implementation for the {@link RandomAccessDataFile}.
+     * 内部带有一个延迟分配的预读缓冲区, 单字节或小块读取 (例如读取嵌套 jar 中的条目) 不再每次都触发一次文件读取.
      *
      * @author dong4j
      * @version 1.0.0
@@ -181,6 +190,15 @@ public class RandomAccessDataFile implements RandomAccessData {
         /** Position */
         private int position;
 
+        /** 预读缓冲区, 第一次小块读取时才分配 */
+        private byte[] buffer;
+
+        /** 缓冲区中下一个待读取字节的下标 */
+        private int bufferPosition;
+
+        /** 缓冲区中有效数据的长度 */
+        private int bufferLimit;
+
         /**
          * Read int
          *
@@ -190,11 +208,11 @@ public class RandomAccessDataFile implements RandomAccessData {
          */
         @Override
         public int read() throws IOException {
-            int read = this.readByte(this.position);
-            if (read > -1) {
-                this.moveOn(1);
+            if (this.bufferPosition >= this.bufferLimit && this.fill() <= 0) {
+                return -1;
             }
-            return read;
+            this.position++;
+            return this.buffer[this.bufferPosition++] & 0xFF;
         }
 
         /**
@@ -225,7 +243,22 @@ public class RandomAccessDataFile implements RandomAccessData {
             if (b == null) {
                 throw new NullPointerException("Bytes must not be null");
             }
-            return this.doRead(b, off, len);
+            if (len == 0) {
+                return 0;
+            }
+            if (this.bufferPosition >= this.bufferLimit) {
+                if (len >= READ_AHEAD_BUFFER_SIZE) {
+                    return this.doRead(b, off, len);
+                }
+                if (this.fill() <= 0) {
+                    return -1;
+                }
+            }
+            int count = Math.min(len, this.bufferLimit - this.bufferPosition);
+            System.arraycopy(this.buffer, this.bufferPosition, b, off, count);
+            this.bufferPosition += count;
+            this.position += count;
+            return count;
         }
 
         /**
@@ -250,6 +283,27 @@ public class RandomAccessDataFile implements RandomAccessData {
             return (int) this.moveOn(RandomAccessDataFile.this.read(b, this.position, off, cappedLen));
         }
 
+        /**
+         * 从当前位置预读数据到缓冲区, 缓冲区中的数据对应 {@link #position} 之后的字节.
+         *
+         * @return the number of bytes buffered, or -1 at the end of the stream
+         * @throws IOException in case of I/O errors
+         * @since 2026.1.0
+         */
+        private int fill() throws IOException {
+            int cappedLen = this.cap(READ_AHEAD_BUFFER_SIZE);
+            if (cappedLen <= 0) {
+                return -1;
+            }
+            if (this.buffer == null) {
+                this.buffer = new byte[cappedLen];
+            }
+            int count = RandomAccessDataFile.this.read(this.buffer, this.position, 0, Math.min(cappedLen, this.buffer.length));
+            this.bufferPosition = 0;
+            this.bufferLimit = Math.max(count, 0);
+            return count;
+        }
+
         /**
          * Skip long
          *
@@ -259,7 +313,30 @@ public class RandomAccessDataFile implements RandomAccessData {
          */
         @Override
         public long skip(long n) {
-            return (n <= 0) ? 0 : this.moveOn(this.cap(n));
+            if (n <= 0) {
+                return 0;
+            }
+            int buffered = this.bufferLimit - this.bufferPosition;
+            if (n <= buffered) {
+                this.bufferPosition += (int) n;
+                this.position += (int) n;
+                return n;
+            }
+            this.bufferPosition = 0;
+            this.bufferLimit = 0;
+            this.position += buffered;
+            return buffered + this.moveOn(this.cap(n - buffered));
+        }
+
+        /**
+         * Available int
+         *
+         * @return the int
+         * @since 2026.1.0
+         */
+        @Override
+        public int available() {
+            return Math.max(this.cap(Integer.MAX_VALUE), 0);
         }
 
         /**
@@ -286,25 +363,13 @@ public class RandomAccessDataFile implements RandomAccessData {
             return amount;
         }
 
-        /**
-         * Read byte int
-         *
-         * @param position position
-         * @return the int
-         * @throws IOException io exception
-         * @since 1.0.0
-         */
-        private int readByte(long position) throws IOException {
-            if (position >= RandomAccessDataFile.this.length) {
-                return -1;
-            }
-            return RandomAccessDataFile.this.fileAccess.readByte(RandomAccessDataFile.this.offset + position);
-        }
-
     }
 
     /**
-     * <p>Description: >/p>
+     * 基于 {@link FileChannel#read(ByteBuffer, long)} 的定位读取, 读取时不需要 seek, 也不需要持有任何锁,
+     * 多个线程可以同时读取同一个文件. {@link #monitor} 只用于打开和关闭 channel.
+     * 已中断的线程使用 {@link FileChannel} 读取会关闭 channel 并抛出 {@link ClosedByInterruptException},
+     * 所以这类读取改为在 {@link #monitor} 下通过不可中断的 {@link RandomAccessFile} 完成.
      *
      * @author dong4j
      * @version 1.0.0
@@ -320,7 +385,10 @@ public class RandomAccessDataFile implements RandomAccessData {
         /** File */
         private final File file;
 
-        /** Random access file */
+        /** File channel */
+        private volatile FileChannel fileChannel;
+
+        /** 已中断的线程使用的 random access file, 由 {@link #monitor} 保护 */
         private RandomAccessFile randomAccessFile;
 
         /**
@@ -346,57 +414,150 @@ public class RandomAccessDataFile implements RandomAccessData {
          * @since 1.0.0
          */
         private int read(byte[] bytes, long position, int offset, int length) throws IOException {
+            if (Thread.currentThread().isInterrupted()) {
+                return this.readUsingRandomAccessFile(bytes, position, offset, length);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
+            int total = 0;
+            while (buffer.hasRemaining()) {
+                int count;
+                try {
+                    count = this.read(buffer, position + total);
+                } catch (ClosedByInterruptException ex) {
+                    // 读取过程中被中断, 剩余部分不可中断地读取, 中断状态保留给调用方
+                    int remaining = this.readUsingRandomAccessFile(bytes, position + total, offset + total, length - total);
+                    return (remaining < 0) ? ((total > 0) ? total : -1) : total + remaining;
+                }
+                if (count < 0) {
+                    return (total > 0) ? total : -1;
+                }
+                total += count;
+            }
+            return total;
+        }
+
+        /**
+         * Read int
+         *
+         * @param buffer   buffer
+         * @param position position
+         * @return the int
+         * @throws IOException io exception
+         * @since 2026.1.0
+         */
+        private int read(ByteBuffer buffer, long position) throws IOException {
+            FileChannel channel = this.openIfNecessary();
+            try {
+                return channel.read(buffer, position);
+            } catch (ClosedByInterruptException ex) {
+                // 被中断的线程会关闭 channel, 这里为其他线程重新打开
+                this.reopen(channel);
+                throw ex;
+            } catch (ClosedChannelException ex) {
+                // channel 被其他线程的中断关闭, 重新打开后重试一次
+                return this.reopen(channel).read(buffer, position);
+            }
+        }
+
+        /**
+         * 使用 {@link RandomAccessFile} 读取, 不受线程中断影响
+         *
+         * @param bytes    bytes
+         * @param position position
+         * @param offset   offset
+         * @param length   length
+         * @return the int
+         * @throws IOException io exception
+         * @since 2026.1.0
+         */
+        private int readUsingRandomAccessFile(byte[] bytes, long position, int offset, int length) throws IOException {
             synchronized (this.monitor) {
-                this.openIfNecessary();
+                if (this.randomAccessFile == null) {
+                    this.randomAccessFile = new RandomAccessFile(this.file, "r");
+                }
                 this.randomAccessFile.seek(position);
-                return this.randomAccessFile.read(bytes, offset, length);
+                int total = 0;
+                while (total < length) {
+                    int count = this.randomAccessFile.read(bytes, offset + total, length - total);
+                    if (count < 0) {
+                        return (total > 0) ? total : -1;
+                    }
+                    total += count;
+                }
+                return total;
             }
         }
 
         /**
          * Open if necessary
          *
+         * @return the file channel
          * @since 1.0.0
          */
-        private void openIfNecessary() {
-            if (this.randomAccessFile == null) {
-                try {
-                    this.randomAccessFile = new RandomAccessFile(this.file, "r");
-                } catch (FileNotFoundException ex) {
-                    throw new IllegalArgumentException(
-                        String.format("File %s must exist", this.file.getAbsolutePath()));
+        private FileChannel openIfNecessary() {
+            FileChannel channel = this.fileChannel;
+            if (channel == null) {
+                synchronized (this.monitor) {
+                    channel = this.fileChannel;
+                    if (channel == null) {
+                        channel = this.open();
+                        this.fileChannel = channel;
+                    }
                 }
             }
+            return channel;
         }
 
         /**
-         * Close *
+         * Reopen file channel
          *
-         * @throws IOException io exception
-         * @since 1.0.0
+         * @param closed closed
+         * @return the file channel
+         * @since 2026.1.0
          */
-        private void close() throws IOException {
+        private FileChannel reopen(FileChannel closed) {
             synchronized (this.monitor) {
-                if (this.randomAccessFile != null) {
-                    this.randomAccessFile.close();
-                    this.randomAccessFile = null;
+                FileChannel channel = this.fileChannel;
+                if (channel == closed || channel == null) {
+                    channel = this.open();
+                    this.fileChannel = channel;
                 }
+                return channel;
             }
         }
 
         /**
-         * Read byte int
+         * Open file channel
+         *
+         * @return the file channel
+         * @since 2026.1.0
+         */
+        private FileChannel open() {
+            try {
+                return FileChannel.open(this.file.toPath(), StandardOpenOption.READ);
+            } catch (NoSuchFileException ex) {
+                throw new IllegalArgumentException(String.format("File %s must exist", this.file.getAbsolutePath()));
+            } catch (IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        /**
+         * Close *
          *
-         * @param position position
-         * @return the int
          * @throws IOException io exception
          * @since 1.0.0
          */
-        private int readByte(long position) throws IOException {
+        private void close() throws IOException {
             synchronized (this.monitor) {
-                this.openIfNecessary();
-                this.randomAccessFile.seek(position);
-                return this.randomAccessFile.read();
+                if (this.fileChannel != null) {
+                    this.fileChannel.close();
+                    this.fileChannel = null;
+                }
+                if (this.randomAccessFile != null) {
+                    this.randomAccessFile.close();
+                    this.randomAccessFile = null;
+                }
             }
         }
 
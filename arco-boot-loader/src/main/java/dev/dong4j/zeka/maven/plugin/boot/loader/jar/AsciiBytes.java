@@ -154,10 +154,11 @@ final class AsciiBytes {
      * @since 1.0.0
      */
     AsciiBytes substring(int beginIndex, int endIndex) {
-        if (this.offset + endIndex - beginIndex > this.bytes.length) {
+        int length = endIndex - beginIndex;
+        if (this.offset + length > this.bytes.length) {
             throw new IndexOutOfBoundsException();
         }
-        return new AsciiBytes(this.bytes, this.offset + beginIndex, this.length);
+        return new AsciiBytes(this.bytes, this.offset + beginIndex, length);
     }
 
     /**
@@ -169,9 +170,21 @@ final class AsciiBytes {
      * @since 1.0.0
      */
     boolean matches(CharSequence name, char suffix) {
+        return this.matches(EMPTY_STRING, name, suffix);
+    }
+
+    /**
+     * 与 {@code prefix + name + suffix} 比较, 直接读取 UTF-8 字节, 不拼接字符串
+     *
+     * @param prefix prefix
+     * @param name   name
+     * @param suffix suffix
+     * @return the boolean
+     * @since 2026.1.0
+     */
+    boolean matches(String prefix, CharSequence name, char suffix) {
         int charIndex = 0;
-        int nameLen = name.length();
-        int totalLen = nameLen + ((suffix != 0) ? 1 : 0);
+        int totalLen = prefix.length() + name.length() + ((suffix != 0) ? 1 : 0);
         for (int i = this.offset; i < this.offset + this.length; i++) {
             int b = this.bytes[i];
             int remainingUtfBytes = this.getNumberOfUtfBytes(b) - 1;
@@ -179,7 +192,7 @@ final class AsciiBytes {
             for (int j = 0; j < remainingUtfBytes; j++) {
                 b = (b << 6) + (this.bytes[++i] & SUBSEQUENT_BYTE_BITMASK);
             }
-            char c = this.getChar(name, suffix, charIndex++);
+            char c = this.getChar(prefix, name, suffix, charIndex++);
             if (b <= 0xFFFF) {
                 if (c != b) {
                     return false;
@@ -188,7 +201,7 @@ final class AsciiBytes {
                 if (c != ((b >> 0xA) + 0xD7C0)) {
                     return false;
                 }
-                c = this.getChar(name, suffix, charIndex++);
+                c = this.getChar(prefix, name, suffix, charIndex++);
                 if (c != ((b & 0x3FF) + 0xDC00)) {
                     return false;
                 }
@@ -200,13 +213,19 @@ final class AsciiBytes {
     /**
      * Gets char *
      *
+     * @param prefix prefix
      * @param name   name
      * @param suffix suffix
      * @param index  index
      * @return the char
      * @since 1.0.0
      */
-    private char getChar(CharSequence name, char suffix, int index) {
+    private char getChar(String prefix, CharSequence name, char suffix, int index) {
+        int prefixLength = prefix.length();
+        if (index < prefixLength) {
+            return prefix.charAt(index);
+        }
+        index -= prefixLength;
         if (index < name.length()) {
             return name.charAt(index);
         }
@@ -138,6 +138,20 @@ final class CentralDirectoryFileHeader implements FileHeader {
         return this.name.matches(name, suffix);
     }
 
+    /**
+     * Has name boolean
+     *
+     * @param prefix prefix
+     * @param name   name
+     * @param suffix suffix
+     * @return the boolean
+     * @since 2026.1.0
+     */
+    @Override
+    public boolean hasName(String prefix, CharSequence name, char suffix) {
+        return this.name.matches(prefix, name, suffix);
+    }
+
     /**
      * Is directory boolean
      *
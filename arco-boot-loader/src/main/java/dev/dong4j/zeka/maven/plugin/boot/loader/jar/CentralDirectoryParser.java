@@ -47,13 +47,32 @@ class CentralDirectoryParser {
      * @since 1.0.0
      */
     RandomAccessData parse(RandomAccessData data, boolean skipPrefixBytes) throws IOException {
+        return this.parse(data, skipPrefixBytes, null);
+    }
+
+    /**
+     * Parse the source data, triggering {@link CentralDirectoryVisitor visitors}. 如果提供了与 end record 一致的预计算索引,
+     * 则通过 {@link CentralDirectoryVisitor#visitIndex} 使用索引, 不再逐条解析 central directory.
+     *
+     * @param data            the source data
+     * @param skipPrefixBytes if prefix bytes should be skipped
+     * @param index           the precomputed index or {@code null}
+     * @return the actual archive data without any prefix bytes
+     * @throws IOException on error
+     * @since 2026.1.0
+     */
+    RandomAccessData parse(RandomAccessData data, boolean skipPrefixBytes, JarEntriesIndex index) throws IOException {
         CentralDirectoryEndRecord endRecord = new CentralDirectoryEndRecord(data);
         if (skipPrefixBytes) {
             data = this.getArchiveData(endRecord, data);
         }
         RandomAccessData centralDirectoryData = endRecord.getCentralDirectory(data);
         this.visitStart(endRecord, centralDirectoryData);
-        this.parseEntries(endRecord, centralDirectoryData);
+        if (index != null && index.matches(endRecord)) {
+            this.visitIndex(index);
+        } else {
+            this.parseEntries(endRecord, centralDirectoryData);
+        }
         this.visitEnd();
         return data;
     }
@@ -121,6 +140,18 @@ class CentralDirectoryParser {
         }
     }
 
+    /**
+     * Visit index *
+     *
+     * @param index index
+     * @since 2026.1.0
+     */
+    private void visitIndex(JarEntriesIndex index) {
+        for (CentralDirectoryVisitor visitor : this.visitors) {
+            visitor.visitIndex(index);
+        }
+    }
+
     /**
      * Visit end
      *
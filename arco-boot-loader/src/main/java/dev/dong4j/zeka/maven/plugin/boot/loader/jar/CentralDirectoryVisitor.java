@@ -31,6 +31,15 @@ interface CentralDirectoryVisitor {
      */
     void visitFileHeader(CentralDirectoryFileHeader fileHeader, int dataOffset);
 
+    /**
+     * 使用预计算索引代替逐条 {@link #visitFileHeader} 回调, 在 {@link #visitStart} 之后, {@link #visitEnd()} 之前调用
+     *
+     * @param index index
+     * @since 2026.1.0
+     */
+    default void visitIndex(JarEntriesIndex index) {
+    }
+
     /**
      * Visit end
      *
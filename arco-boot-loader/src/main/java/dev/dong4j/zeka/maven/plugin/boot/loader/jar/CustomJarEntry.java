@@ -85,6 +85,20 @@ class CustomJarEntry extends java.util.jar.JarEntry implements FileHeader {
         return this.headerName.matches(name, suffix);
     }
 
+    /**
+     * Has name boolean
+     *
+     * @param prefix prefix
+     * @param name   name
+     * @param suffix suffix
+     * @return the boolean
+     * @since 2026.1.0
+     */
+    @Override
+    public boolean hasName(String prefix, CharSequence name, char suffix) {
+        return this.headerName.matches(prefix, name, suffix);
+    }
+
     /**
      * Return a {@link URL} for this {@link CustomJarEntry}.
      *
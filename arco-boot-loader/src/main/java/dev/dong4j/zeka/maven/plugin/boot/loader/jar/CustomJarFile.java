@@ -1,5 +1,6 @@
 package dev.dong4j.zeka.maven.plugin.boot.loader.jar;
 
+import dev.dong4j.zeka.maven.plugin.boot.loader.data.MappedRandomAccessData;
 import dev.dong4j.zeka.maven.plugin.boot.loader.data.RandomAccessData;
 import dev.dong4j.zeka.maven.plugin.boot.loader.data.RandomAccessDataFile;
 
@@ -11,8 +12,10 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLStreamHandler;
 import java.net.URLStreamHandlerFactory;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.Iterator;
+import java.util.Set;
 import java.util.function.Supplier;
 import java.util.jar.JarInputStream;
 import java.util.jar.Manifest;
@@ -42,6 +45,10 @@ public class CustomJarFile extends java.util.jar.JarFile {
     private static final String PROTOCOL_HANDLER = "java.protocol.handler.pkgs";
     /** HANDLERS_PACKAGE */
     private static final String HANDLERS_PACKAGE = "dev.dong4j.zeka.maven.plugin.boot.loader";
+    /** 根 jar 的读取方式, 设置为 {@link #IO_MMAP} 时使用 {@link MappedRandomAccessData} */
+    public static final String IO_PROPERTY = "loader.io";
+    /** IO_MMAP */
+    public static final String IO_MMAP = "mmap";
     /** META_INF */
     private static final AsciiBytes META_INF = new AsciiBytes("META-INF/");
     /** SIGNATURE_FILE_EXTENSION */
@@ -68,6 +75,8 @@ public class CustomJarFile extends java.util.jar.JarFile {
     private boolean signed;
     /** Comment */
     private String comment;
+    /** 包 (目录) 名, 来自预计算索引或者第一次调用 {@link #getPackageNames()} 时扫描 central directory */
+    private volatile Set<String> packageNames;
 
     /**
      * Create a new {@link CustomJarFile} backed by the specified file.
@@ -88,7 +97,25 @@ public class CustomJarFile extends java.util.jar.JarFile {
      * @since 1.0.0
      */
     CustomJarFile(RandomAccessDataFile file) throws IOException {
-        this(file, "", file, JarFileType.DIRECT);
+        this(file, "", openRootData(file), JarFileType.DIRECT);
+    }
+
+    /**
+     * 根据 {@link #IO_PROPERTY} 选择根 jar 的读取方式, 无法映射 (超出映射预算) 时回退到 {@link RandomAccessDataFile}.
+     *
+     * @param file the root jar file
+     * @return the data used to read the root jar
+     * @throws IOException if the file cannot be mapped
+     * @since 2026.1.0
+     */
+    private static RandomAccessData openRootData(RandomAccessDataFile file) throws IOException {
+        if (IO_MMAP.equalsIgnoreCase(System.getProperty(IO_PROPERTY))) {
+            MappedRandomAccessData mappedData = MappedRandomAccessData.open(file.getFile());
+            if (mappedData != null) {
+                return mappedData;
+            }
+        }
+        return file;
     }
 
     /**
@@ -104,7 +131,7 @@ public class CustomJarFile extends java.util.jar.JarFile {
      */
     private CustomJarFile(RandomAccessDataFile rootFile, String pathFromRoot, RandomAccessData data, JarFileType type)
         throws IOException {
-        this(rootFile, pathFromRoot, data, null, type, null);
+        this(rootFile, pathFromRoot, data, null, type, null, null);
     }
 
     /**
@@ -116,12 +143,13 @@ public class CustomJarFile extends java.util.jar.JarFile {
      * @param filter           filter
      * @param type             type
      * @param manifestSupplier manifest supplier
+     * @param index            打包时预计算的索引, 可以为 {@code null}
      * @throws IOException io exception
      * @since 1.0.0
      */
     @SuppressWarnings("java:S112")
     private CustomJarFile(RandomAccessDataFile rootFile, String pathFromRoot, RandomAccessData data, JarEntryFilter filter,
-                          JarFileType type, Supplier<Manifest> manifestSupplier) throws IOException {
+                          JarFileType type, Supplier<Manifest> manifestSupplier, JarEntriesIndex index) throws IOException {
         super(rootFile.getFile());
         this.rootFile = rootFile;
         this.pathFromRoot = pathFromRoot;
@@ -130,7 +158,7 @@ public class CustomJarFile extends java.util.jar.JarFile {
         this.type = type;
         parser.addVisitor(this.centralDirectoryVisitor());
         try {
-            this.data = parser.parse(data, filter == null);
+            this.data = parser.parse(data, filter == null, index);
         } catch (RuntimeException ex) {
             this.close();
             throw ex;
@@ -169,6 +197,12 @@ public class CustomJarFile extends java.util.jar.JarFile {
                 }
             }
 
+            @Override
+            public void visitIndex(JarEntriesIndex index) {
+                CustomJarFile.this.signed = index.isSigned();
+                CustomJarFile.this.packageNames = Collections.unmodifiableSet(index.getPackageNames());
+            }
+
             @Override
             public void visitEnd() {
                 // nothing to do
@@ -197,6 +231,18 @@ public class CustomJarFile extends java.util.jar.JarFile {
         return this.data;
     }
 
+    /**
+     * 条目在 jar 中的原始数据 (STORED 条目即为内容本身), 不存在时返回 {@code null}
+     *
+     * @param name name
+     * @return the entry data
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    RandomAccessData getEntryData(String name) throws IOException {
+        return this.entries.getEntryData(name);
+    }
+
     /**
      * Gets manifest *
      *
@@ -324,7 +370,7 @@ public class CustomJarFile extends java.util.jar.JarFile {
      * @throws IOException if the nested jar file cannot be read
      * @since 1.0.0
      */
-    public synchronized CustomJarFile getNestedJarFile(ZipEntry entry) throws IOException {
+    public CustomJarFile getNestedJarFile(ZipEntry entry) throws IOException {
         return this.getNestedJarFile((CustomJarEntry) entry);
     }
 
@@ -336,7 +382,7 @@ public class CustomJarFile extends java.util.jar.JarFile {
      * @throws IOException if the nested jar file cannot be read
      * @since 1.0.0
      */
-    public synchronized CustomJarFile getNestedJarFile(CustomJarEntry entry) throws IOException {
+    public CustomJarFile getNestedJarFile(CustomJarEntry entry) throws IOException {
         try {
             return this.createJarFileFromEntry(entry);
         } catch (Exception ex) {
@@ -376,7 +422,7 @@ public class CustomJarFile extends java.util.jar.JarFile {
             return null;
         };
         return new CustomJarFile(this.rootFile, this.pathFromRoot + "!/" + entry.getName().substring(0, name.length() - 1),
-            this.data, filter, JarFileType.NESTED_DIRECTORY, this.manifestSupplier);
+            this.data, filter, JarFileType.NESTED_DIRECTORY, this.manifestSupplier, null);
     }
 
     /**
@@ -395,8 +441,50 @@ public class CustomJarFile extends java.util.jar.JarFile {
                     + "mechanism used to create your executable jar file");
         }
         RandomAccessData entryData = this.entries.getEntryData(entry.getName());
-        return new CustomJarFile(this.rootFile, this.pathFromRoot + "!/" + entry.getName(), entryData,
-            JarFileType.NESTED_JAR);
+        return new CustomJarFile(this.rootFile, this.pathFromRoot + "!/" + entry.getName(), entryData, null,
+            JarFileType.NESTED_JAR, null, this.getEntriesIndex(entry));
+    }
+
+    /**
+     * 读取打包时为嵌套 jar 生成的 {@link JarEntriesIndex}, 不存在或与 jar 不匹配时返回 {@code null}, 回退到正常解析.
+     *
+     * @param entry 嵌套 jar 条目
+     * @return the jar entries index or {@code null}
+     * @since 2026.1.0
+     */
+    private JarEntriesIndex getEntriesIndex(CustomJarEntry entry) {
+        try {
+            String indexName = JarEntriesIndex.getIndexName(entry.getName());
+            CustomJarEntry indexEntry = this.entries.getEntry(indexName);
+            // 索引以 STORED 方式写入, 可以一次读取整个条目
+            if (indexEntry == null || indexEntry.getMethod() != ZipEntry.STORED) {
+                return null;
+            }
+            JarEntriesIndex index = JarEntriesIndex.load(this.entries.getEntryData(indexName));
+            return (index != null && index.matches(entry)) ? index : null;
+        } catch (IOException | RuntimeException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * 获取 jar 中所有条目所在的包 (目录) 名, 格式为 {@code com/example}, 根目录为空字符串, 包含所有上级目录.
+     * 嵌套 jar 优先使用打包时生成的 {@link JarEntriesIndex}, 否则一次读取 central directory 后计算并缓存.
+     *
+     * @return the package names, or {@code null} if they cannot be determined
+     * @since 2026.1.0
+     */
+    public Set<String> getPackageNames() {
+        Set<String> names = this.packageNames;
+        if (names == null) {
+            try {
+                names = Collections.unmodifiableSet(this.entries.getPackageNames());
+            } catch (IOException ex) {
+                return null;
+            }
+            this.packageNames = names;
+        }
+        return names;
     }
 
     /**
@@ -432,6 +520,9 @@ public class CustomJarFile extends java.util.jar.JarFile {
         super.close();
         if (this.type == JarFileType.DIRECT) {
             this.rootFile.close();
+            if (this.data instanceof MappedRandomAccessData) {
+                ((MappedRandomAccessData) this.data).close();
+            }
         }
     }
 
@@ -0,0 +1,164 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader.jar;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * {@link JarFileEntries} 使用的无锁有界条目缓存, 以条目下标作为 key.
+ * 缓存按下标直接映射到槽位 (index & mask), 读写都只是一次 volatile 访问, 冲突时新条目覆盖旧条目.
+ * 条目数量不超过容量时不会发生任何淘汰.
+ * 签名 jar 的条目在读取数据后才会填充证书信息, 必须保持同一个实例, 因此始终保留, 不会被淘汰.
+ * 容量可以通过 {@code -Dloader.entryCacheSize} 设置, 为 0 时只缓存签名 jar 的条目.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 14:40
+ * @since 2026.1.0
+ */
+final class EntryCache {
+
+    /** 缓存容量的系统属性 */
+    static final String SIZE_PROPERTY = "loader.entryCacheSize";
+
+    /** DEFAULT_SIZE */
+    static final int DEFAULT_SIZE = 256;
+
+    /** CONFIGURED_SIZE */
+    private static final int CONFIGURED_SIZE = getConfiguredSize();
+
+    /** 直接映射的槽位, 容量为 0 时为 {@code null} */
+    private final AtomicReferenceArray<Slot> slots;
+
+    /** Mask */
+    private final int mask;
+
+    /** 签名 jar 的条目, 不淘汰 */
+    private final Map<Integer, FileHeader> pinned = new ConcurrentHashMap<>();
+
+    /**
+     * Entry cache
+     *
+     * @param size 容量, 会向上取整为 2 的幂
+     * @since 2026.1.0
+     */
+    EntryCache(int size) {
+        if (size <= 0) {
+            this.slots = null;
+            this.mask = 0;
+        } else {
+            int capacity = (size == 1) ? 1 : Integer.highestOneBit(size - 1) << 1;
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+        }
+    }
+
+    /**
+     * 使用 {@code loader.entryCacheSize} 配置的容量创建缓存, 但不会超过 jar 的条目数
+     *
+     * @param entryCount jar 中的条目数
+     * @return the entry cache
+     * @since 2026.1.0
+     */
+    static EntryCache forEntries(int entryCount) {
+        return new EntryCache(Math.min(CONFIGURED_SIZE, entryCount));
+    }
+
+    /**
+     * Get file header
+     *
+     * @param index index
+     * @return the file header, or {@code null} if not cached
+     * @since 2026.1.0
+     */
+    FileHeader get(int index) {
+        if (this.slots != null) {
+            Slot slot = this.slots.get(index & this.mask);
+            if (slot != null && slot.index == index) {
+                return slot.header;
+            }
+        }
+        return this.pinned.isEmpty() ? null : this.pinned.get(index);
+    }
+
+    /**
+     * Put
+     *
+     * @param index  index
+     * @param header header
+     * @param pin    是否永久保留 (签名 jar)
+     * @since 2026.1.0
+     */
+    void put(int index, FileHeader header, boolean pin) {
+        if (pin) {
+            this.pinned.put(index, header);
+        } else if (this.slots != null) {
+            this.slots.set(index & this.mask, new Slot(index, header));
+        }
+    }
+
+    /**
+     * Clear
+     *
+     * @since 2026.1.0
+     */
+    void clear() {
+        if (this.slots != null) {
+            for (int i = 0; i < this.slots.length(); i++) {
+                this.slots.set(i, null);
+            }
+        }
+        this.pinned.clear();
+    }
+
+    /**
+     * Gets configured size *
+     *
+     * @return the configured size
+     * @since 2026.1.0
+     */
+    private static int getConfiguredSize() {
+        String value = System.getProperty(SIZE_PROPERTY);
+        if (value == null) {
+            return DEFAULT_SIZE;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException ex) {
+            return DEFAULT_SIZE;
+        }
+    }
+
+    /**
+     * 不可变的槽位, 保证下标与条目一起可见
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 14:40
+     * @since 2026.1.0
+     */
+    private static final class Slot {
+
+        /** Index */
+        private final int index;
+
+        /** Header */
+        private final FileHeader header;
+
+        /**
+         * Slot
+         *
+         * @param index  index
+         * @param header header
+         * @since 2026.1.0
+         */
+        Slot(int index, FileHeader header) {
+            this.index = index;
+            this.header = header;
+        }
+
+    }
+
+}
@@ -25,6 +25,17 @@ interface FileHeader {
      */
     boolean hasName(CharSequence name, char suffix);
 
+    /**
+     * Returns {@code true} if the header has the name {@code prefix + name}, without concatenating them.
+     *
+     * @param prefix the prefix of the name to test
+     * @param name   the name to test
+     * @param suffix an additional suffix (or {@code 0})
+     * @return {@code true} if the header has the given name
+     * @since 2026.1.0
+     */
+    boolean hasName(String prefix, CharSequence name, char suffix);
+
     /**
      * Return the offset of the load file header within the archive data.
      *
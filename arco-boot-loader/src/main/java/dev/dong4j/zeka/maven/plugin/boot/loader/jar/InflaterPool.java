@@ -0,0 +1,137 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader.jar;
+
+import dev.dong4j.zeka.maven.plugin.boot.loader.util.LoaderMetrics;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Inflater;
+
+/**
+ * {@link ZipInflaterInputStream} 使用的有界 {@link Inflater} 和输入缓冲区池, 线程安全.
+ * 每个 DEFLATED 条目都需要一个 {@link Inflater} (本地内存) 和一个缓冲区, 启动时加载上万个 class 会反复创建和释放,
+ * 因此流关闭后将它们放回池中复用; 池满时直接释放.
+ * 容量可以通过 {@code -Dloader.inflaterPoolSize} 设置, 为 0 时不复用.
+ * 复用情况记录在 {@link LoaderMetrics#INFLATER_POOL_HITS}, {@link LoaderMetrics#INFLATER_POOL_MISSES}
+ * 和 {@link LoaderMetrics#INFLATER_POOL_DISCARDS} 中.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 22:10
+ * @since 2026.1.0
+ */
+final class InflaterPool {
+
+    /** 池容量的系统属性 */
+    static final String SIZE_PROPERTY = "loader.inflaterPoolSize";
+
+    /** DEFAULT_SIZE */
+    static final int DEFAULT_SIZE = 32;
+
+    /** 缓冲区大小, 与原来较大条目使用的缓冲区大小一致 */
+    static final int BUFFER_SIZE = 8192;
+
+    /** 全局共享的池 */
+    private static final InflaterPool INSTANCE = new InflaterPool(getConfiguredSize());
+
+    /** 空闲的 inflater, 容量为 0 时为 {@code null} */
+    private final BlockingQueue<Pooled> pool;
+
+    /**
+     * Inflater pool
+     *
+     * @param size 容量
+     * @since 2026.1.0
+     */
+    InflaterPool(int size) {
+        this.pool = (size > 0) ? new ArrayBlockingQueue<>(size) : null;
+    }
+
+    /**
+     * Get
+     *
+     * @return the inflater pool
+     * @since 2026.1.0
+     */
+    static InflaterPool get() {
+        return INSTANCE;
+    }
+
+    /**
+     * 取出一个空闲的 inflater 和缓冲区, 池为空时创建新的
+     *
+     * @return the pooled
+     * @since 2026.1.0
+     */
+    Pooled acquire() {
+        Pooled pooled = (this.pool != null) ? this.pool.poll() : null;
+        if (pooled != null) {
+            LoaderMetrics.INFLATER_POOL_HITS.increment();
+            return pooled;
+        }
+        LoaderMetrics.INFLATER_POOL_MISSES.increment();
+        return new Pooled();
+    }
+
+    /**
+     * 重置后放回池中, 池满时释放 inflater 的本地内存
+     *
+     * @param pooled pooled
+     * @since 2026.1.0
+     */
+    void release(Pooled pooled) {
+        pooled.inflater.reset();
+        if (this.pool == null || !this.pool.offer(pooled)) {
+            LoaderMetrics.INFLATER_POOL_DISCARDS.increment();
+            pooled.inflater.end();
+        }
+    }
+
+    /**
+     * 当前空闲的数量
+     *
+     * @return the int
+     * @since 2026.1.0
+     */
+    int size() {
+        return (this.pool != null) ? this.pool.size() : 0;
+    }
+
+    /**
+     * Gets configured size *
+     *
+     * @return the configured size
+     * @since 2026.1.0
+     */
+    private static int getConfiguredSize() {
+        String value = System.getProperty(SIZE_PROPERTY);
+        if (value == null) {
+            return DEFAULT_SIZE;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException ex) {
+            return DEFAULT_SIZE;
+        }
+    }
+
+    /**
+     * 一起复用的 inflater 和缓冲区
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 22:10
+     * @since 2026.1.0
+     */
+    static final class Pooled {
+
+        /** Inflater */
+        final Inflater inflater = new Inflater(true);
+
+        /** Buffer */
+        final byte[] buffer = new byte[BUFFER_SIZE];
+
+    }
+
+}
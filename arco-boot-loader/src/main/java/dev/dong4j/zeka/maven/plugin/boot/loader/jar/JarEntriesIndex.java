@@ -0,0 +1,524 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader.jar;
+
+import dev.dong4j.zeka.maven.plugin.boot.loader.data.RandomAccessData;
+import dev.dong4j.zeka.maven.plugin.boot.loader.data.RandomAccessDataFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+/**
+ * 嵌套 jar 的预计算索引, 打包时由 {@link #create(byte[])} 生成并写入 {@link #INDEX_LOCATION} 目录下.
+ * 内容为 {@link JarFileEntries} 解析 central directory 后得到的已排序 hash code, central directory 偏移量以及位置映射,
+ * 启动时一次读取即可直接使用, 不需要逐条解析 central directory 和排序. 同时保存 jar 中所有的包名, 用于构建 class path 的包索引.
+ * 索引中保存了嵌套 jar 的大小和 CRC, 与 jar 条目不一致时 (例如 jar 被替换) 会被忽略并回退到正常解析.
+ * formatter:off
+ * 文件格式 (big-endian):
+ * int     magic
+ * int     version
+ * long    jar size
+ * long    jar crc
+ * int     number of central directory records
+ * byte    signed
+ * int     size
+ * int[]   hash codes
+ * int[]   central directory offsets
+ * int[]   positions
+ * int     package count
+ * utf[]   package names ({@link java.io.DataOutput#writeUTF})
+ * formatter:on
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 11:40
+ * @since 2026.1.0
+ */
+public final class JarEntriesIndex {
+
+    /** 索引文件所在的目录 */
+    public static final String INDEX_LOCATION = "BOOT-INF/index/";
+
+    /** 索引文件后缀 */
+    public static final String INDEX_SUFFIX = ".idx";
+
+    /** MAGIC: JIDX */
+    private static final int MAGIC = 0x4A494458;
+
+    /** VERSION */
+    private static final int VERSION = 2;
+
+    /** HEADER_SIZE */
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 4 + 1 + 4;
+
+    /** Jar size */
+    private final long jarSize;
+
+    /** Jar crc */
+    private final long jarCrc;
+
+    /** Number of records */
+    private final int numberOfRecords;
+
+    /** Signed */
+    private final boolean signed;
+
+    /** Size */
+    private final int size;
+
+    /** Hash codes */
+    private final int[] hashCodes;
+
+    /** Central directory offsets */
+    private final int[] centralDirectoryOffsets;
+
+    /** Positions */
+    private final int[] positions;
+
+    /** 包 (目录) 名 */
+    private final Set<String> packageNames;
+
+    /**
+     * Jar entries index
+     *
+     * @param jarSize                 jar size
+     * @param jarCrc                  jar crc
+     * @param numberOfRecords         number of records
+     * @param signed                  signed
+     * @param size                    size
+     * @param hashCodes               hash codes
+     * @param centralDirectoryOffsets central directory offsets
+     * @param positions               positions
+     * @param packageNames            package names
+     * @since 2026.1.0
+     */
+    private JarEntriesIndex(long jarSize, long jarCrc, int numberOfRecords, boolean signed, int size, int[] hashCodes,
+                            int[] centralDirectoryOffsets, int[] positions, Set<String> packageNames) {
+        this.jarSize = jarSize;
+        this.jarCrc = jarCrc;
+        this.numberOfRecords = numberOfRecords;
+        this.signed = signed;
+        this.size = size;
+        this.hashCodes = hashCodes;
+        this.centralDirectoryOffsets = centralDirectoryOffsets;
+        this.positions = positions;
+        this.packageNames = packageNames;
+    }
+
+    /**
+     * 获取嵌套 jar 对应的索引条目名, 例如 {@code BOOT-INF/lib/foo.jar} 对应 {@code BOOT-INF/index/foo.jar.idx}.
+     *
+     * @param jarEntryName 嵌套 jar 在外层 jar 中的条目名
+     * @return the index entry name
+     * @since 2026.1.0
+     */
+    public static String getIndexName(String jarEntryName) {
+        return INDEX_LOCATION + jarEntryName.substring(jarEntryName.lastIndexOf('/') + 1) + INDEX_SUFFIX;
+    }
+
+    /**
+     * 解析嵌套 jar 的 central directory 并生成索引内容, 打包时使用.
+     *
+     * @param jarContent 嵌套 jar 的完整内容
+     * @return the index content
+     * @throws IOException if the jar cannot be parsed
+     * @since 2026.1.0
+     */
+    public static byte[] create(byte[] jarContent) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(jarContent, 0, jarContent.length);
+        return create(new ByteArrayData(jarContent), crc.getValue());
+    }
+
+    /**
+     * 从文件中解析嵌套 jar 的 central directory 并生成索引内容, 只读取 central directory, 不需要将 jar 读入内存.
+     *
+     * @param jarFile 嵌套 jar 的内容
+     * @param crc     嵌套 jar 内容的 CRC32
+     * @return the index content
+     * @throws IOException if the jar cannot be parsed
+     * @since 2026.1.0
+     */
+    public static byte[] create(File jarFile, long crc) throws IOException {
+        RandomAccessDataFile data = new RandomAccessDataFile(jarFile);
+        try {
+            return create(data, crc);
+        } finally {
+            data.close();
+        }
+    }
+
+    /**
+     * 直接从外层 jar 中读取以 STORED 方式保存的嵌套 jar 的 central directory 并生成索引内容,
+     * 使用外层 jar central directory 中记录的 CRC, 不需要读取整个嵌套 jar.
+     *
+     * @param jarFile 外层 jar
+     * @param entry   以 STORED 方式保存的嵌套 jar 条目
+     * @return the index content
+     * @throws IOException if the jar cannot be parsed
+     * @since 2026.1.0
+     */
+    public static byte[] create(CustomJarFile jarFile, ZipEntry entry) throws IOException {
+        if (entry.getMethod() != ZipEntry.STORED || entry.getCrc() == -1) {
+            throw new IllegalArgumentException("Nested jar '" + entry.getName() + "' must be stored with a known CRC");
+        }
+        RandomAccessData data = jarFile.getEntryData(entry.getName());
+        if (data == null) {
+            throw new IOException("Entry '" + entry.getName() + "' not found");
+        }
+        return create(data, entry.getCrc());
+    }
+
+    /**
+     * Create
+     *
+     * @param data 嵌套 jar 的内容
+     * @param crc  嵌套 jar 内容的 CRC32
+     * @return the index content
+     * @throws IOException if the jar cannot be parsed
+     * @since 2026.1.0
+     */
+    private static byte[] create(RandomAccessData data, long crc) throws IOException {
+        CentralDirectoryParser parser = new CentralDirectoryParser();
+        JarFileEntries entries = parser.addVisitor(new JarFileEntries(null, null));
+        SignatureVisitor signatureVisitor = parser.addVisitor(new SignatureVisitor());
+        parser.parse(data, true);
+        int size = entries.getSize();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + size * 3 * 4);
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putLong(data.getSize());
+        buffer.putLong(crc);
+        buffer.putInt(signatureVisitor.numberOfRecords);
+        buffer.put((byte) (signatureVisitor.signed ? 1 : 0));
+        buffer.putInt(size);
+        entries.writeIndex(buffer.asIntBuffer());
+        ByteArrayOutputStream content = new ByteArrayOutputStream(buffer.capacity() + 1024);
+        content.write(buffer.array());
+        Set<String> packageNames = new TreeSet<>(entries.getPackageNames());
+        DataOutputStream packages = new DataOutputStream(content);
+        packages.writeInt(packageNames.size());
+        for (String packageName : packageNames) {
+            packages.writeUTF(packageName);
+        }
+        packages.flush();
+        return content.toByteArray();
+    }
+
+    /**
+     * 读取索引, 格式或版本不匹配时返回 {@code null}.
+     *
+     * @param data 索引条目的数据
+     * @return the jar entries index or {@code null}
+     * @throws IOException in case of I/O errors
+     * @since 2026.1.0
+     */
+    static JarEntriesIndex load(RandomAccessData data) throws IOException {
+        if (data.getSize() < HEADER_SIZE) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data.read());
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            return null;
+        }
+        long jarSize = buffer.getLong();
+        long jarCrc = buffer.getLong();
+        int numberOfRecords = buffer.getInt();
+        boolean signed = buffer.get() != 0;
+        int size = buffer.getInt();
+        if (size < 0 || size > numberOfRecords || buffer.remaining() < size * 3 * 4 + 4) {
+            return null;
+        }
+        IntBuffer ints = buffer.asIntBuffer();
+        int[] hashCodes = new int[size];
+        int[] centralDirectoryOffsets = new int[size];
+        int[] positions = new int[size];
+        ints.get(hashCodes);
+        ints.get(centralDirectoryOffsets);
+        ints.get(positions);
+        buffer.position(buffer.position() + size * 3 * 4);
+        DataInputStream packages = new DataInputStream(
+            new ByteArrayInputStream(buffer.array(), buffer.position(), buffer.remaining()));
+        int packageCount = packages.readInt();
+        Set<String> packageNames = new HashSet<>(Math.max(16, (int) (packageCount / 0.75f) + 1));
+        for (int i = 0; i < packageCount; i++) {
+            packageNames.add(packages.readUTF());
+        }
+        return new JarEntriesIndex(jarSize, jarCrc, numberOfRecords, signed, size, hashCodes, centralDirectoryOffsets,
+            positions, packageNames);
+    }
+
+    /**
+     * 索引是否属于指定的嵌套 jar 条目
+     *
+     * @param entry 嵌套 jar 条目
+     * @return the boolean
+     * @since 2026.1.0
+     */
+    boolean matches(CustomJarEntry entry) {
+        return this.jarSize == entry.getSize() && this.jarCrc == entry.getCrc();
+    }
+
+    /**
+     * 索引是否与解析得到的 end record 一致
+     *
+     * @param endRecord end record
+     * @return the boolean
+     * @since 2026.1.0
+     */
+    boolean matches(CentralDirectoryEndRecord endRecord) {
+        return this.numberOfRecords == endRecord.getNumberOfRecords();
+    }
+
+    /**
+     * Is signed
+     *
+     * @return the boolean
+     * @since 2026.1.0
+     */
+    boolean isSigned() {
+        return this.signed;
+    }
+
+    /**
+     * Gets size *
+     *
+     * @return the size
+     * @since 2026.1.0
+     */
+    int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Get hash codes int [ ]
+     *
+     * @return the int [ ]
+     * @since 2026.1.0
+     */
+    int[] getHashCodes() {
+        return this.hashCodes;
+    }
+
+    /**
+     * Get central directory offsets int [ ]
+     *
+     * @return the int [ ]
+     * @since 2026.1.0
+     */
+    int[] getCentralDirectoryOffsets() {
+        return this.centralDirectoryOffsets;
+    }
+
+    /**
+     * Get positions int [ ]
+     *
+     * @return the int [ ]
+     * @since 2026.1.0
+     */
+    int[] getPositions() {
+        return this.positions;
+    }
+
+    /**
+     * Gets package names *
+     *
+     * @return the package names
+     * @since 2026.1.0
+     */
+    Set<String> getPackageNames() {
+        return this.packageNames;
+    }
+
+    /**
+     * 生成索引时记录 record 数量和签名信息
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 11:40
+     * @since 2026.1.0
+     */
+    private static final class SignatureVisitor implements CentralDirectoryVisitor {
+
+        /** META_INF */
+        private static final AsciiBytes META_INF = new AsciiBytes("META-INF/");
+
+        /** SIGNATURE_FILE_EXTENSION */
+        private static final AsciiBytes SIGNATURE_FILE_EXTENSION = new AsciiBytes(".SF");
+
+        /** Number of records */
+        private int numberOfRecords;
+
+        /** Signed */
+        private boolean signed;
+
+        /**
+         * Visit start *
+         *
+         * @param endRecord            end record
+         * @param centralDirectoryData central directory data
+         * @since 2026.1.0
+         */
+        @Override
+        public void visitStart(CentralDirectoryEndRecord endRecord, RandomAccessData centralDirectoryData) {
+            this.numberOfRecords = endRecord.getNumberOfRecords();
+        }
+
+        /**
+         * Visit file header *
+         *
+         * @param fileHeader file header
+         * @param dataOffset data offset
+         * @since 2026.1.0
+         */
+        @Override
+        public void visitFileHeader(CentralDirectoryFileHeader fileHeader, int dataOffset) {
+            AsciiBytes name = fileHeader.getName();
+            if (name.startsWith(META_INF) && name.endsWith(SIGNATURE_FILE_EXTENSION)) {
+                this.signed = true;
+            }
+        }
+
+        /**
+         * Visit end
+         *
+         * @since 2026.1.0
+         */
+        @Override
+        public void visitEnd() {
+            // nothing to do
+        }
+
+    }
+
+    /**
+     * 基于内存中 jar 内容的 {@link RandomAccessData}, 只在打包时生成索引使用.
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 11:40
+     * @since 2026.1.0
+     */
+    private static final class ByteArrayData implements RandomAccessData {
+
+        /** Bytes */
+        private final byte[] bytes;
+
+        /** Offset */
+        private final int offset;
+
+        /** Length */
+        private final int length;
+
+        /**
+         * Byte array data
+         *
+         * @param bytes bytes
+         * @since 2026.1.0
+         */
+        private ByteArrayData(byte[] bytes) {
+            this(bytes, 0, bytes.length);
+        }
+
+        /**
+         * Byte array data
+         *
+         * @param bytes  bytes
+         * @param offset offset
+         * @param length length
+         * @since 2026.1.0
+         */
+        private ByteArrayData(byte[] bytes, int offset, int length) {
+            this.bytes = bytes;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        /**
+         * Gets input stream *
+         *
+         * @return the input stream
+         * @since 2026.1.0
+         */
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(this.bytes, this.offset, this.length);
+        }
+
+        /**
+         * Gets subsection *
+         *
+         * @param offset offset
+         * @param length length
+         * @return the subsection
+         * @since 2026.1.0
+         */
+        @Override
+        public RandomAccessData getSubsection(long offset, long length) {
+            if (offset < 0 || length < 0 || offset + length > this.length) {
+                throw new IndexOutOfBoundsException();
+            }
+            return new ByteArrayData(this.bytes, this.offset + (int) offset, (int) length);
+        }
+
+        /**
+         * Read byte [ ]
+         *
+         * @return the byte [ ]
+         * @since 2026.1.0
+         */
+        @Override
+        public byte[] read() throws IOException {
+            return this.read(0, this.length);
+        }
+
+        /**
+         * Read byte [ ]
+         *
+         * @param offset offset
+         * @param length length
+         * @return the byte [ ]
+         * @throws IOException io exception
+         * @since 2026.1.0
+         */
+        @Override
+        public byte[] read(long offset, long length) throws IOException {
+            if (offset > this.length) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (offset + length > this.length) {
+                throw new EOFException();
+            }
+            byte[] result = new byte[(int) length];
+            System.arraycopy(this.bytes, this.offset + (int) offset, result, 0, result.length);
+            return result;
+        }
+
+        /**
+         * Gets size *
+         *
+         * @return the size
+         * @since 2026.1.0
+         */
+        @Override
+        public long getSize() {
+            return this.length;
+        }
+
+    }
+
+}
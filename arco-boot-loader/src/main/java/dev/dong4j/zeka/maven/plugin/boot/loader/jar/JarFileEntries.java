@@ -4,12 +4,12 @@ import dev.dong4j.zeka.maven.plugin.boot.loader.data.RandomAccessData;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.IntBuffer;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
-import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.jar.Attributes;
 import java.util.jar.Attributes.Name;
 import java.util.jar.Manifest;
@@ -58,6 +58,15 @@ class JarFileEntries implements CentralDirectoryVisitor, Iterable<CustomJarEntry
         RUNTIME_VERSION = version;
     }
 
+    /** multi-release 条目的前缀 {@code META-INF/versions/<n>/}, 下标为版本号, 只包含 BASE_VERSION 之后到 RUNTIME_VERSION 的版本 */
+    private static final String[] VERSION_PREFIXES = new String[Math.max(RUNTIME_VERSION, BASE_VERSION) + 1];
+
+    static {
+        for (int version = BASE_VERSION + 1; version < VERSION_PREFIXES.length; version++) {
+            VERSION_PREFIXES[version] = "META-INF/versions/" + version + "/";
+        }
+    }
+
     /** LOCAL_FILE_HEADER_SIZE */
     private static final long LOCAL_FILE_HEADER_SIZE = 30;
 
@@ -67,8 +76,14 @@ class JarFileEntries implements CentralDirectoryVisitor, Iterable<CustomJarEntry
     /** NO_SUFFIX */
     private static final char NO_SUFFIX = 0;
 
-    /** ENTRY_CACHE_SIZE */
-    protected static final int ENTRY_CACHE_SIZE = 25;
+    /** NO_PREFIX */
+    private static final String NO_PREFIX = "";
+
+    /** MULTI_RELEASE_PREFIX */
+    private static final String MULTI_RELEASE_PREFIX = "META-INF/versions/";
+
+    /** {@link #MULTI_RELEASE_PREFIX} 的字节形式, 用于直接与 central directory 中的条目名比较 */
+    private static final AsciiBytes MULTI_RELEASE_PREFIX_BYTES = new AsciiBytes(MULTI_RELEASE_PREFIX);
 
     /** Jar file */
     private final CustomJarFile jarFile;
@@ -94,21 +109,14 @@ class JarFileEntries implements CentralDirectoryVisitor, Iterable<CustomJarEntry
     /** Multi release jar */
     private Boolean multiReleaseJar;
 
-    /** entriesCache */
-    private final Map<Integer, FileHeader> entriesCache = Collections
-        .synchronizedMap(new LinkedHashMap<Integer, FileHeader>(16, 0.75f, true) {
+    /** 是否由预计算索引加载, 此时数组已经有序 */
+    private boolean indexed;
 
-            private static final long serialVersionUID = 3626484089358515308L;
+    /** multi-release jar 中当前运行时可用的版本条目, 第一次查找时构建 */
+    private volatile VersionedEntries versionedEntries;
 
-            @Override
-            protected boolean removeEldestEntry(Map.Entry<Integer, FileHeader> eldest) {
-                if (JarFileEntries.this.jarFile.isSigned()) {
-                    return false;
-                }
-                return this.size() >= ENTRY_CACHE_SIZE;
-            }
-
-        });
+    /** 条目缓存, 在 central directory 解析完成后创建 */
+    private EntryCache entriesCache = new EntryCache(0);
 
     /**
      * Jar file entries
@@ -170,6 +178,22 @@ class JarFileEntries implements CentralDirectoryVisitor, Iterable<CustomJarEntry
         this.size++;
     }
 
+    /**
+     * 直接使用预计算索引中已排序的数组, 跳过逐条解析和排序
+     *
+     * @param index index
+     * @since 2026.1.0
+     */
+    @Override
+    public void visitIndex(JarEntriesIndex index) {
+        this.size = index.getSize();
+        this.hashCodes = index.getHashCodes();
+        this.centralDirectoryOffsets = index.getCentralDirectoryOffsets();
+        this.positions = index.getPositions();
+        this.indexed = true;
+        this.entriesCache = EntryCache.forEntries(this.size);
+    }
+
     /**
      * Visit end
      *
@@ -177,6 +201,10 @@ class JarFileEntries implements CentralDirectoryVisitor, Iterable<CustomJarEntry
      */
     @Override
     public void visitEnd() {
+        if (this.indexed) {
+            return;
+        }
+        this.entriesCache = EntryCache.forEntries(this.size);
         this.sort(0, this.size - 1);
         int[] positions = this.positions;
         this.positions = new int[positions.length];
@@ -195,6 +223,82 @@ class JarFileEntries implements CentralDirectoryVisitor, Iterable<CustomJarEntry
         return this.size;
     }
 
+    /**
+     * 一次读取整个 central directory, 收集所有条目所在的包 (目录) 名, 格式为 {@code com/example}, 根目录为空字符串.
+     * 同时包含所有上级目录以及 multi-release 条目去掉 {@code META-INF/versions/<n>/} 前缀后的目录.
+     *
+     * @return the package names
+     * @throws IOException in case of I/O errors
+     * @since 2026.1.0
+     */
+    Set<String> getPackageNames() throws IOException {
+        Set<String> packageNames = new HashSet<>();
+        if (this.size == 0) {
+            return packageNames;
+        }
+        byte[] bytes = this.centralDirectoryData.read();
+        CentralDirectoryFileHeader fileHeader = new CentralDirectoryFileHeader();
+        String lastPackageName = null;
+        for (int i = 0; i < this.size; i++) {
+            fileHeader.load(bytes, this.centralDirectoryOffsets[i], null, 0, this.filter);
+            AsciiBytes name = fileHeader.getName();
+            if (name == null) {
+                continue;
+            }
+            String packageName = packageName(name.toString());
+            // 同一个目录下的条目通常是连续的
+            if (!packageName.equals(lastPackageName)) {
+                addPackageName(packageName, packageNames);
+                lastPackageName = packageName;
+            }
+        }
+        return packageNames;
+    }
+
+    /**
+     * 条目所在的包 (目录) 名, 目录条目 {@code com/example/} 对应 {@code com/example}
+     *
+     * @param entryName entry name
+     * @return the string
+     * @since 2026.1.0
+     */
+    private static String packageName(String entryName) {
+        int lastSlash = entryName.lastIndexOf(SLASH);
+        return (lastSlash > 0) ? entryName.substring(0, lastSlash) : "";
+    }
+
+    /**
+     * 添加包名以及所有上级目录
+     *
+     * @param packageName  package name
+     * @param packageNames package names
+     * @since 2026.1.0
+     */
+    private static void addPackageName(String packageName, Set<String> packageNames) {
+        String name = packageName;
+        while (packageNames.add(name) && !name.isEmpty()) {
+            name = packageName(name);
+        }
+        if (packageName.startsWith(MULTI_RELEASE_PREFIX)) {
+            int versionEnd = packageName.indexOf(SLASH, MULTI_RELEASE_PREFIX.length());
+            if (versionEnd > 0) {
+                addPackageName(packageName.substring(versionEnd + 1), packageNames);
+            }
+        }
+    }
+
+    /**
+     * 按 {@link JarEntriesIndex} 的格式依次写入 hash codes, central directory 偏移量和位置映射
+     *
+     * @param buffer buffer
+     * @since 2026.1.0
+     */
+    void writeIndex(IntBuffer buffer) {
+        buffer.put(this.hashCodes, 0, this.size);
+        buffer.put(this.centralDirectoryOffsets, 0, this.size);
+        buffer.put(this.positions, 0, this.size);
+    }
+
     /**
      * Sort *
      *
@@ -360,7 +464,9 @@ class JarFileEntries implements CentralDirectoryVisitor, Iterable<CustomJarEntry
     }
 
     /**
-     * Gets entry *
+     * 查找条目, multi-release jar 中依次查找 {@code META-INF/versions/<n>/name}.
+     * 整个查找过程不创建字符串: multi-release jar 通过 {@link VersionedEntries} 按条目名的 hash code 一次查找所有版本,
+     * 条目名直接与 central directory 中的字节比较; 只有第一次创建带版本前缀的 {@link CustomJarEntry} 时才需要别名.
      *
      * @param <T>        parameter
      * @param name       name
@@ -370,22 +476,118 @@ class JarFileEntries implements CentralDirectoryVisitor, Iterable<CustomJarEntry
      * @since 1.0.0
      */
     private <T extends FileHeader> T getEntry(CharSequence name, Class<T> type, boolean cacheEntry) {
-        T entry = this.doGetEntry(name, type, cacheEntry, null);
-        if (!this.isMetaInfEntry(name) && this.isMultiReleaseJar()) {
-            int version = RUNTIME_VERSION;
-            AsciiBytes nameAlias = (entry instanceof CustomJarEntry) ? ((CustomJarEntry) entry).getAsciiBytesName()
-                : new AsciiBytes(name.toString());
-            while (version > BASE_VERSION) {
-                T versionedEntry = this.doGetEntry("META-INF/versions/" + version + "/" + name, type, cacheEntry, nameAlias);
-                if (versionedEntry != null) {
-                    return versionedEntry;
-                }
-                version--;
+        int hashCode = AsciiBytes.hashCode(name);
+        T entry = this.doGetEntry(NO_PREFIX, name, hashCode, type, cacheEntry, null);
+        if (!isMetaInfEntry(name) && this.isMultiReleaseJar()) {
+            CharSequence nameAlias = (entry instanceof CustomJarEntry) ? entry.toString() : name;
+            T versionedEntry = this.getVersionedEntry(name, hashCode, NO_SUFFIX, type, cacheEntry, nameAlias);
+            if (versionedEntry == null) {
+                versionedEntry = this.getVersionedEntry(name, AsciiBytes.hashCode(hashCode, SLASH), SLASH, type, cacheEntry, nameAlias);
+            }
+            if (versionedEntry != null) {
+                return versionedEntry;
             }
         }
         return entry;
     }
 
+    /**
+     * 查找 {@code META-INF/versions/<n>/name} 中当前运行时可用的最高版本, 同一个 hash code 的条目按版本降序排列
+     *
+     * @param <T>        parameter
+     * @param name       去掉版本前缀的条目名
+     * @param hashCode   {@code name + suffix} 的 hash code
+     * @param suffix     suffix
+     * @param type       type
+     * @param cacheEntry cache entry
+     * @param nameAlias  name alias
+     * @return the versioned entry
+     * @since 2026.1.0
+     */
+    private <T extends FileHeader> T getVersionedEntry(CharSequence name, int hashCode, char suffix, Class<T> type,
+                                                       boolean cacheEntry, CharSequence nameAlias) {
+        VersionedEntries versionedEntries = this.getVersionedEntries();
+        int position = versionedEntries.getFirst(hashCode);
+        while (position >= 0 && versionedEntries.hasHashCode(position, hashCode)) {
+            T entry = this.getEntry(versionedEntries.getIndex(position), type, cacheEntry, nameAlias);
+            if (entry.hasName(VERSION_PREFIXES[versionedEntries.getVersion(position)], name, suffix)) {
+                return entry;
+            }
+            position++;
+        }
+        return null;
+    }
+
+    /**
+     * 一次读取整个 central directory, 收集当前运行时可用的 {@code META-INF/versions/<n>/} 条目.
+     * 在第一次查找时构建而不是在 {@link #visitFileHeader} 中构建, 因为由预计算索引加载时不会解析 central directory.
+     *
+     * @return the versioned entries
+     * @since 2026.1.0
+     */
+    private VersionedEntries getVersionedEntries() {
+        VersionedEntries versionedEntries = this.versionedEntries;
+        if (versionedEntries == null) {
+            try {
+                versionedEntries = this.loadVersionedEntries();
+            } catch (IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+            this.versionedEntries = versionedEntries;
+        }
+        return versionedEntries;
+    }
+
+    /**
+     * Load versioned entries
+     *
+     * @return the versioned entries
+     * @throws IOException in case of I/O errors
+     * @since 2026.1.0
+     */
+    private VersionedEntries loadVersionedEntries() throws IOException {
+        if (this.size == 0) {
+            return VersionedEntries.NONE;
+        }
+        int[] versionedHashCodes = new int[16];
+        int[] indexes = new int[16];
+        int[] versions = new int[16];
+        int count = 0;
+        byte[] bytes = this.centralDirectoryData.read();
+        CentralDirectoryFileHeader fileHeader = new CentralDirectoryFileHeader();
+        for (int i = 0; i < this.size; i++) {
+            fileHeader.load(bytes, this.centralDirectoryOffsets[i], null, 0, this.filter);
+            AsciiBytes name = fileHeader.getName();
+            if (name == null || !name.startsWith(MULTI_RELEASE_PREFIX_BYTES)) {
+                continue;
+            }
+            String entryName = name.toString();
+            int versionEnd = entryName.indexOf(SLASH, MULTI_RELEASE_PREFIX.length());
+            if (versionEnd < 0 || versionEnd == entryName.length() - 1) {
+                continue;
+            }
+            int version;
+            try {
+                version = Integer.parseInt(entryName.substring(MULTI_RELEASE_PREFIX.length(), versionEnd));
+            } catch (NumberFormatException ex) {
+                continue;
+            }
+            if (version <= BASE_VERSION || version > RUNTIME_VERSION) {
+                continue;
+            }
+            if (count == indexes.length) {
+                versionedHashCodes = Arrays.copyOf(versionedHashCodes, count * 2);
+                indexes = Arrays.copyOf(indexes, count * 2);
+                versions = Arrays.copyOf(versions, count * 2);
+            }
+            versionedHashCodes[count] = AsciiBytes.hashCode(entryName.substring(versionEnd + 1));
+            indexes[count] = i;
+            versions[count] = version;
+            count++;
+        }
+        return VersionedEntries.of(versionedHashCodes, indexes, versions, count);
+    }
+
     /**
      * Is meta inf entry boolean
      *
@@ -393,8 +595,17 @@ class JarFileEntries implements CentralDirectoryVisitor, Iterable<CustomJarEntry
      * @return the boolean
      * @since 1.0.0
      */
-    private boolean isMetaInfEntry(CharSequence name) {
-        return name.toString().startsWith(META_INF_PREFIX);
+    private static boolean isMetaInfEntry(CharSequence name) {
+        int length = META_INF_PREFIX.length();
+        if (name.length() < length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (name.charAt(i) != META_INF_PREFIX.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -427,20 +638,21 @@ class JarFileEntries implements CentralDirectoryVisitor, Iterable<CustomJarEntry
      * Do get entry t
      *
      * @param <T>        parameter
+     * @param prefix     条目名前缀
      * @param name       name
+     * @param hashCode   {@code prefix + name} 的 hash code
      * @param type       type
      * @param cacheEntry cache entry
      * @param nameAlias  name alias
      * @return the t
      * @since 1.0.0
      */
-    private <T extends FileHeader> T doGetEntry(CharSequence name, Class<T> type, boolean cacheEntry,
-                                                AsciiBytes nameAlias) {
-        int hashCode = AsciiBytes.hashCode(name);
-        T entry = this.getEntry(hashCode, name, NO_SUFFIX, type, cacheEntry, nameAlias);
+    private <T extends FileHeader> T doGetEntry(String prefix, CharSequence name, int hashCode, Class<T> type,
+                                                boolean cacheEntry, CharSequence nameAlias) {
+        T entry = this.getEntry(hashCode, prefix, name, NO_SUFFIX, type, cacheEntry, nameAlias);
         if (entry == null) {
             hashCode = AsciiBytes.hashCode(hashCode, SLASH);
-            entry = this.getEntry(hashCode, name, SLASH, type, cacheEntry, nameAlias);
+            entry = this.getEntry(hashCode, prefix, name, SLASH, type, cacheEntry, nameAlias);
         }
         return entry;
     }
@@ -450,6 +662,7 @@ class JarFileEntries implements CentralDirectoryVisitor, Iterable<CustomJarEntry
      *
      * @param <T>        parameter
      * @param hashCode   hash code
+     * @param prefix     prefix
      * @param name       name
      * @param suffix     suffix
      * @param type       type
@@ -458,12 +671,12 @@ class JarFileEntries implements CentralDirectoryVisitor, Iterable<CustomJarEntry
      * @return the entry
      * @since 1.0.0
      */
-    private <T extends FileHeader> T getEntry(int hashCode, CharSequence name, char suffix, Class<T> type,
-                                              boolean cacheEntry, AsciiBytes nameAlias) {
+    private <T extends FileHeader> T getEntry(int hashCode, String prefix, CharSequence name, char suffix, Class<T> type,
+                                              boolean cacheEntry, CharSequence nameAlias) {
         int index = this.getFirstIndex(hashCode);
         while (index >= 0 && index < this.size && this.hashCodes[index] == hashCode) {
             T entry = this.getEntry(index, type, cacheEntry, nameAlias);
-            if (entry.hasName(name, suffix)) {
+            if (entry.hasName(prefix, name, suffix)) {
                 return entry;
             }
             index++;
@@ -483,16 +696,17 @@ class JarFileEntries implements CentralDirectoryVisitor, Iterable<CustomJarEntry
      * @since 1.0.0
      */
     @SuppressWarnings("unchecked")
-    private <T extends FileHeader> T getEntry(int index, Class<T> type, boolean cacheEntry, AsciiBytes nameAlias) {
+    private <T extends FileHeader> T getEntry(int index, Class<T> type, boolean cacheEntry, CharSequence nameAlias) {
         try {
             FileHeader cached = this.entriesCache.get(index);
             FileHeader entry = (cached != null) ? cached : CentralDirectoryFileHeader
                 .fromRandomAccessData(this.centralDirectoryData, this.centralDirectoryOffsets[index], this.filter);
             if (CentralDirectoryFileHeader.class.equals(entry.getClass()) && type.equals(CustomJarEntry.class)) {
-                entry = new CustomJarEntry(this.jarFile, (CentralDirectoryFileHeader) entry, nameAlias);
+                AsciiBytes alias = (nameAlias != null) ? new AsciiBytes(nameAlias.toString()) : null;
+                entry = new CustomJarEntry(this.jarFile, (CentralDirectoryFileHeader) entry, alias);
             }
             if (cacheEntry && cached != entry) {
-                this.entriesCache.put(index, entry);
+                this.entriesCache.put(index, entry, this.jarFile.isSigned());
             }
             return (T) entry;
         } catch (IOException ex) {
@@ -0,0 +1,201 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader.jar;
+
+import java.util.Arrays;
+
+/**
+ * multi-release jar 中 {@code META-INF/versions/<n>/} 下条目的索引, 只包含当前运行时可以使用的版本.
+ * 按去掉版本前缀后的条目名 hash code 排序, hash code 相同时版本高的在前,
+ * 查找时只需要一次二分查找, 不需要从运行时版本开始逐个版本查找.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 21:40
+ * @since 2026.1.0
+ */
+final class VersionedEntries {
+
+    /** 没有版本条目 */
+    static final VersionedEntries NONE = new VersionedEntries(new int[0], new int[0], new int[0], 0);
+
+    /** 去掉版本前缀后的条目名 hash code, 升序 */
+    private final int[] hashCodes;
+
+    /** 条目在 {@link JarFileEntries} 中的下标 */
+    private final int[] indexes;
+
+    /** 条目的版本 */
+    private final int[] versions;
+
+    /** Size */
+    private final int size;
+
+    /**
+     * Versioned entries
+     *
+     * @param hashCodes hash codes
+     * @param indexes   indexes
+     * @param versions  versions
+     * @param size      size
+     * @since 2026.1.0
+     */
+    private VersionedEntries(int[] hashCodes, int[] indexes, int[] versions, int size) {
+        this.hashCodes = hashCodes;
+        this.indexes = indexes;
+        this.versions = versions;
+        this.size = size;
+    }
+
+    /**
+     * 根据收集到的条目创建索引, 会直接对参数数组排序
+     *
+     * @param hashCodes hash codes
+     * @param indexes   indexes
+     * @param versions  versions
+     * @param size      size
+     * @return the versioned entries
+     * @since 2026.1.0
+     */
+    static VersionedEntries of(int[] hashCodes, int[] indexes, int[] versions, int size) {
+        if (size == 0) {
+            return NONE;
+        }
+        VersionedEntries entries = new VersionedEntries(hashCodes, indexes, versions, size);
+        entries.sort(0, size - 1);
+        return entries;
+    }
+
+    /**
+     * 按 hash code 升序排序, hash code 相同时版本降序
+     *
+     * @param left  left
+     * @param right right
+     * @since 2026.1.0
+     */
+    @SuppressWarnings("java:S3776")
+    private void sort(int left, int right) {
+        if (left < right) {
+            int middle = left + (right - left) / 2;
+            int pivotHashCode = this.hashCodes[middle];
+            int pivotVersion = this.versions[middle];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (this.compare(i, pivotHashCode, pivotVersion) < 0) {
+                    i++;
+                }
+                while (this.compare(j, pivotHashCode, pivotVersion) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    this.swap(i, j);
+                    i++;
+                    j--;
+                }
+            }
+            if (left < j) {
+                this.sort(left, j);
+            }
+            if (right > i) {
+                this.sort(i, right);
+            }
+        }
+    }
+
+    /**
+     * Compare
+     *
+     * @param position position
+     * @param hashCode hash code
+     * @param version  version
+     * @return the int
+     * @since 2026.1.0
+     */
+    private int compare(int position, int hashCode, int version) {
+        int result = Integer.compare(this.hashCodes[position], hashCode);
+        return (result != 0) ? result : Integer.compare(version, this.versions[position]);
+    }
+
+    /**
+     * Swap *
+     *
+     * @param i i
+     * @param j j
+     * @since 2026.1.0
+     */
+    private void swap(int i, int j) {
+        swap(this.hashCodes, i, j);
+        swap(this.indexes, i, j);
+        swap(this.versions, i, j);
+    }
+
+    /**
+     * Swap *
+     *
+     * @param array array
+     * @param i     i
+     * @param j     j
+     * @since 2026.1.0
+     */
+    private static void swap(int[] array, int i, int j) {
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * 第一个 hash code 相同的位置, 不存在时返回 -1
+     *
+     * @param hashCode hash code
+     * @return the int
+     * @since 2026.1.0
+     */
+    int getFirst(int hashCode) {
+        if (this.size == 0) {
+            return -1;
+        }
+        int position = Arrays.binarySearch(this.hashCodes, 0, this.size, hashCode);
+        if (position < 0) {
+            return -1;
+        }
+        while (position > 0 && this.hashCodes[position - 1] == hashCode) {
+            position--;
+        }
+        return position;
+    }
+
+    /**
+     * 指定位置的 hash code 是否与参数相同
+     *
+     * @param position position
+     * @param hashCode hash code
+     * @return the boolean
+     * @since 2026.1.0
+     */
+    boolean hasHashCode(int position, int hashCode) {
+        return position < this.size && this.hashCodes[position] == hashCode;
+    }
+
+    /**
+     * Gets index *
+     *
+     * @param position position
+     * @return the index
+     * @since 2026.1.0
+     */
+    int getIndex(int position) {
+        return this.indexes[position];
+    }
+
+    /**
+     * Gets version *
+     *
+     * @param position position
+     * @return the version
+     * @since 2026.1.0
+     */
+    int getVersion(int position) {
+        return this.versions[position];
+    }
+
+}
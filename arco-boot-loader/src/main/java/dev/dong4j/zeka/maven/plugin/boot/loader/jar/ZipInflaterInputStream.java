@@ -3,12 +3,12 @@ package dev.dong4j.zeka.maven.plugin.boot.loader.jar;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.zip.Inflater;
 import java.util.zip.InflaterInputStream;
 
 /**
  * {@link InflaterInputStream} that supports the writing of an extra "dummy" byte (which
- * is required with JDK 6) and returns accurate available() results.
+ * is required with JDK 6) and returns accurate available() results. The inflater and the
+ * input buffer are borrowed from {@link InflaterPool} and returned when the stream is closed.
  *
  * @author Phillip Webb
  * @version 1.0.0
@@ -24,6 +24,12 @@ class ZipInflaterInputStream extends InflaterInputStream {
     /** Extra bytes written */
     private boolean extraBytesWritten;
 
+    /** Pool */
+    private final InflaterPool pool;
+
+    /** 借用的 inflater 和缓冲区, 归还后为 null */
+    private InflaterPool.Pooled pooled;
+
     /**
      * Zip inflater input stream
      *
@@ -32,7 +38,36 @@ class ZipInflaterInputStream extends InflaterInputStream {
      * @since 1.0.0
      */
     ZipInflaterInputStream(InputStream inputStream, int size) {
-        super(inputStream, new Inflater(true), getInflaterBufferSize(size));
+        this(inputStream, size, InflaterPool.get());
+    }
+
+    /**
+     * Zip inflater input stream
+     *
+     * @param inputStream input stream
+     * @param size        size
+     * @param pool        pool
+     * @since 2026.1.0
+     */
+    ZipInflaterInputStream(InputStream inputStream, int size, InflaterPool pool) {
+        this(inputStream, size, pool, pool.acquire());
+    }
+
+    /**
+     * Zip inflater input stream
+     *
+     * @param inputStream input stream
+     * @param size        size
+     * @param pool        pool
+     * @param pooled      pooled
+     * @since 2026.1.0
+     */
+    private ZipInflaterInputStream(InputStream inputStream, int size, InflaterPool pool, InflaterPool.Pooled pooled) {
+        // 父类构造方法总是创建缓冲区, 这里只创建 1 字节后替换为池中的缓冲区
+        super(inputStream, pooled.inflater, 1);
+        this.buf = pooled.buffer;
+        this.pool = pool;
+        this.pooled = pooled;
         this.available = size;
     }
 
@@ -78,8 +113,16 @@ class ZipInflaterInputStream extends InflaterInputStream {
      */
     @Override
     public void close() throws IOException {
-        super.close();
-        this.inf.end();
+        try {
+            super.close();
+        } finally {
+            InflaterPool.Pooled released = this.pooled;
+            if (released != null) {
+                // 重复关闭时不能重复归还
+                this.pooled = null;
+                this.pool.release(released);
+            }
+        }
     }
 
     /**
@@ -103,18 +146,4 @@ class ZipInflaterInputStream extends InflaterInputStream {
         }
     }
 
-    /**
-     * Gets inflater buffer size *
-     *
-     * @param size size
-     * @return the inflater buffer size
-     * @since 1.0.0
-     */
-    private static int getInflaterBufferSize(long size) {
-        size += 2; // inflater likes some space
-        size = (size > 65536) ? 8192 : size;
-        size = (size <= 0) ? 4096 : size;
-        return (int) size;
-    }
-
 }
@@ -0,0 +1,133 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader.util;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 通过反射使用 {@code jdk.jfr.EventFactory} 创建 {@link LaunchPhase} 的 JFR 事件.
+ * loader 需要在 Java 8 上运行, 不能直接继承 {@code jdk.jfr.Event}; 没有 JFR 或启动时未开启 JFR
+ * ({@code -XX:StartFlightRecording}) 时不创建事件, 也不会加载 JFR 的其他类.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 23:10
+ * @since 2026.1.0
+ */
+final class LaunchEvents {
+
+    /** 事件名 */
+    static final String EVENT_NAME = "dev.dong4j.zeka.loader.LaunchPhase";
+
+    /** 事件工厂, JFR 不可用时为 null */
+    private static final LaunchEvents INSTANCE = create();
+
+    /** Factory */
+    private final Object factory;
+
+    /** EventFactory.newEvent() */
+    private final Method newEvent;
+
+    /** Event.set(int, Object) */
+    private final Method set;
+
+    /** Event.begin() */
+    private final Method begin;
+
+    /** Event.end() */
+    private final Method end;
+
+    /** Event.commit() */
+    private final Method commit;
+
+    /**
+     * Launch events
+     *
+     * @param factory    factory
+     * @param eventClass event class
+     * @throws ReflectiveOperationException reflective operation exception
+     * @since 2026.1.0
+     */
+    private LaunchEvents(Object factory, Class<?> eventClass) throws ReflectiveOperationException {
+        this.factory = factory;
+        this.newEvent = factory.getClass().getMethod("newEvent");
+        this.set = eventClass.getMethod("set", int.class, Object.class);
+        this.begin = eventClass.getMethod("begin");
+        this.end = eventClass.getMethod("end");
+        this.commit = eventClass.getMethod("commit");
+    }
+
+    /**
+     * 创建并开始一个事件
+     *
+     * @param phase phase
+     * @return the event, or {@code null} if JFR is not recording
+     * @since 2026.1.0
+     */
+    static Object begin(LaunchPhase phase) {
+        LaunchEvents events = INSTANCE;
+        if (events == null) {
+            return null;
+        }
+        try {
+            Object event = events.newEvent.invoke(events.factory);
+            events.set.invoke(event, 0, phase.name().toLowerCase(Locale.ROOT));
+            events.begin.invoke(event);
+            return event;
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * 结束并提交事件
+     *
+     * @param event event, 可以为 null
+     * @since 2026.1.0
+     */
+    static void commit(Object event) {
+        LaunchEvents events = INSTANCE;
+        if (events == null || event == null) {
+            return;
+        }
+        try {
+            events.end.invoke(event);
+            events.commit.invoke(event);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            // ignore
+        }
+    }
+
+    /**
+     * 启动时已经开启 JFR 时创建事件工厂
+     *
+     * @return the launch events, or {@code null}
+     * @since 2026.1.0
+     */
+    private static LaunchEvents create() {
+        try {
+            Class<?> flightRecorder = Class.forName("jdk.jfr.FlightRecorder");
+            if (!Boolean.TRUE.equals(flightRecorder.getMethod("isInitialized").invoke(null))) {
+                return null;
+            }
+            Class<?> annotationElement = Class.forName("jdk.jfr.AnnotationElement");
+            Constructor<?> annotation = annotationElement.getConstructor(Class.class, Object.class);
+            List<Object> annotations = Arrays.asList(
+                annotation.newInstance(Class.forName("jdk.jfr.Name"), EVENT_NAME),
+                annotation.newInstance(Class.forName("jdk.jfr.Label"), "Launch Phase"),
+                annotation.newInstance(Class.forName("jdk.jfr.Category"), new String[]{"Zeka", "Loader"}));
+            Object phase = Class.forName("jdk.jfr.ValueDescriptor").getConstructor(Class.class, String.class)
+                .newInstance(String.class, "phase");
+            Object factory = Class.forName("jdk.jfr.EventFactory").getMethod("create", List.class, List.class)
+                .invoke(null, annotations, Collections.singletonList(phase));
+            return new LaunchEvents(factory, Class.forName("jdk.jfr.Event"));
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError ex) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,151 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader.util;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 启动器各阶段的耗时, 用于区分启动时间花在 loader 还是应用 (Spring) 上.
+ * 同一阶段可以多次计时, 耗时累加; 计时为进程级别, 可以通过 {@link #snapshot()} 获取当前值.
+ * 使用 {@code -XX:StartFlightRecording} 启动时, 每次计时同时记录一个 JFR 事件 ({@value LaunchEvents#EVENT_NAME}).
+ * 计时变量统一命名为 {@code ignored}, 所在方法需要 {@code @SuppressWarnings("try")} 避免 {@code -Xlint:try} 警告.
+ * <pre>{@code
+ * try (LaunchPhase.Timing ignored = LaunchPhase.ARCHIVES.start()) {
+ *     archives = this.getClassPathArchives();
+ * }
+ * }</pre>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 23:10
+ * @since 2026.1.0
+ */
+public enum LaunchPhase {
+
+    /** 解析属性和 manifest, 确定主类 */
+    PROPERTIES,
+
+    /** 打开归档, 确定 class path */
+    ARCHIVES,
+
+    /** 创建 class loader */
+    CLASS_LOADER,
+
+    /** 加载主类并查找 main 方法 */
+    MAIN_CLASS,
+
+    /** 执行 main 方法 */
+    MAIN_METHOD;
+
+    /** 累计耗时 (纳秒) */
+    private final LongAdder nanos = new LongAdder();
+
+    /**
+     * 开始计时, 关闭返回的 {@link Timing} 时结束
+     *
+     * @return the timing
+     * @since 2026.1.0
+     */
+    public Timing start() {
+        return new Timing(this, LaunchEvents.begin(this));
+    }
+
+    /**
+     * 累计耗时 (纳秒)
+     *
+     * @return the nanos
+     * @since 2026.1.0
+     */
+    public long getNanos() {
+        return this.nanos.sum();
+    }
+
+    /**
+     * 所有阶段的累计耗时 (纳秒), 按声明顺序排列
+     *
+     * @return the map
+     * @since 2026.1.0
+     */
+    public static Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        for (LaunchPhase phase : values()) {
+            snapshot.put(phase.name().toLowerCase(Locale.ROOT), phase.getNanos());
+        }
+        return snapshot;
+    }
+
+    /**
+     * 各阶段耗时 (毫秒) 和 {@link LoaderMetrics} 的摘要, 用于 {@code loader.debug} 输出
+     *
+     * @return the string
+     * @since 2026.1.0
+     */
+    public static String summary() {
+        StringBuilder summary = new StringBuilder("Launch phases (ms):");
+        for (LaunchPhase phase : values()) {
+            summary.append(' ').append(phase.name().toLowerCase(Locale.ROOT)).append('=')
+                .append(String.format(Locale.ROOT, "%.1f", phase.getNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1)));
+        }
+        return summary.append(", loader metrics: ").append(LoaderMetrics.snapshot()).toString();
+    }
+
+    /**
+     * 重置所有阶段的耗时
+     *
+     * @since 2026.1.0
+     */
+    public static void reset() {
+        for (LaunchPhase phase : values()) {
+            phase.nanos.reset();
+        }
+    }
+
+    /**
+     * 一次计时, 关闭时累加耗时并提交 JFR 事件
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 23:10
+     * @since 2026.1.0
+     */
+    public static final class Timing implements AutoCloseable {
+
+        /** Phase */
+        private final LaunchPhase phase;
+
+        /** JFR 事件, 未开启时为 null */
+        private final Object event;
+
+        /** Start */
+        private final long start = System.nanoTime();
+
+        /**
+         * Timing
+         *
+         * @param phase phase
+         * @param event event
+         * @since 2026.1.0
+         */
+        private Timing(LaunchPhase phase, Object event) {
+            this.phase = phase;
+            this.event = event;
+        }
+
+        /**
+         * Close
+         *
+         * @since 2026.1.0
+         */
+        @Override
+        public void close() {
+            this.phase.nanos.add(System.nanoTime() - this.start);
+            LaunchEvents.commit(this.event);
+        }
+
+    }
+
+}
@@ -0,0 +1,95 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader.util;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 启动器运行时计数器, 用于观察各类缓存和池的效果.
+ * 计数器为进程级别, 可以通过 {@link #snapshot()} 获取当前值.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 14:10
+ * @since 2026.1.0
+ */
+public enum LoaderMetrics {
+
+    /** 命中负缓存, 直接返回未找到 */
+    NEGATIVE_CACHE_HITS,
+
+    /** 未命中负缓存, 需要实际查找 */
+    NEGATIVE_CACHE_MISSES,
+
+    /** 从池中取得空闲的 inflater 和缓冲区 */
+    INFLATER_POOL_HITS,
+
+    /** 池为空, 创建新的 inflater 和缓冲区 */
+    INFLATER_POOL_MISSES,
+
+    /** 归还时池已满, 直接释放 inflater */
+    INFLATER_POOL_DISCARDS,
+
+    /** 启动器打开自身所在的归档或主目录以读取 manifest */
+    LAUNCHER_ARCHIVE_OPENS;
+
+    /** Counter */
+    private final LongAdder counter = new LongAdder();
+
+    /**
+     * Increment
+     *
+     * @since 2026.1.0
+     */
+    public void increment() {
+        this.counter.increment();
+    }
+
+    /**
+     * Add
+     *
+     * @param value value
+     * @since 2026.1.0
+     */
+    public void add(long value) {
+        this.counter.add(value);
+    }
+
+    /**
+     * Get long
+     *
+     * @return the long
+     * @since 2026.1.0
+     */
+    public long get() {
+        return this.counter.sum();
+    }
+
+    /**
+     * 所有计数器的当前值, 按声明顺序排列
+     *
+     * @return the map
+     * @since 2026.1.0
+     */
+    public static Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        for (LoaderMetrics metric : values()) {
+            snapshot.put(metric.name().toLowerCase(Locale.ROOT), metric.get());
+        }
+        return snapshot;
+    }
+
+    /**
+     * 重置所有计数器
+     *
+     * @since 2026.1.0
+     */
+    public static void reset() {
+        for (LoaderMetrics metric : values()) {
+            metric.counter.reset();
+        }
+    }
+
+}
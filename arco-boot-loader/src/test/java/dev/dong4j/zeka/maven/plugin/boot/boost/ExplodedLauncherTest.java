@@ -0,0 +1,107 @@
+package dev.dong4j.zeka.maven.plugin.boot.boost;
+
+import dev.dong4j.zeka.maven.plugin.boot.loader.ClassPathArtifacts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 16:50
+ * @since 2026.1.0
+ */
+class ExplodedLauncherTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void classPathUsesSlotPathsBeforeIndexedLibraries() throws Exception {
+        File home = new File(this.tempDir, "app");
+        touch(new File(home, "lib/b.jar"));
+        touch(new File(home, "lib/a.jar"));
+        new File(home, ExplodedLauncher.BOOT_INF_CLASSES).mkdirs();
+        Files.write(new File(home, ExplodedLauncher.CLASSPATH_INDEX).toPath(),
+            Arrays.asList("lib/b.jar", "", "lib/a.jar"), StandardCharsets.UTF_8);
+        touch(new File(home, "patch/fix.jar"));
+
+        ExplodedLauncher launcher = new ExplodedLauncher(home, home.getAbsolutePath() + File.separator,
+            Collections.singletonList("patch/"));
+        assertThat(relativePaths(home, launcher.getClassPathUrls())).containsExactly("patch/", "patch/fix.jar", "BOOT-INF/classes/", "lib/b.jar", "lib/a.jar");
+    }
+
+    @Test
+    void classPathIsDeduplicatedOnlyWhenEnabled() throws Exception {
+        File home = new File(this.tempDir, "app");
+        new File(home, ExplodedLauncher.BOOT_INF_CLASSES).mkdirs();
+        artifact(new File(home, "lib/demo-core-1.0.jar"), "META-INF/maven/dev.demo/demo-core/pom.properties");
+        artifact(new File(home, "lib/demo-api-1.0.jar"), "META-INF/maven/dev.demo/demo-api/pom.properties");
+        Files.write(new File(home, ExplodedLauncher.CLASSPATH_INDEX).toPath(),
+            Arrays.asList("lib/demo-core-1.0.jar", "lib/demo-api-1.0.jar"), StandardCharsets.UTF_8);
+        artifact(new File(home, "patch/demo-core-1.1.jar"), "META-INF/maven/dev.demo/demo-core/pom.properties");
+
+        ExplodedLauncher launcher = new ExplodedLauncher(home, home.getAbsolutePath() + File.separator,
+            Collections.singletonList("patch/"));
+        assertThat(relativePaths(home, launcher.getClassPathUrls()))
+            .containsExactly("patch/", "patch/demo-core-1.1.jar", "BOOT-INF/classes/", "lib/demo-core-1.0.jar", "lib/demo-api-1.0.jar");
+        System.setProperty(ClassPathArtifacts.ENABLED_PROPERTY, "true");
+        try {
+            assertThat(relativePaths(home, launcher.getClassPathUrls()))
+                .containsExactly("patch/", "patch/demo-core-1.1.jar", "BOOT-INF/classes/", "lib/demo-api-1.0.jar");
+        } finally {
+            System.clearProperty(ClassPathArtifacts.ENABLED_PROPERTY);
+        }
+    }
+
+    @Test
+    void homeIsFoundFromDirectoryOrLauncherJar() throws Exception {
+        File home = new File(this.tempDir, "app");
+        touch(new File(home, ExplodedLauncher.CLASSPATH_INDEX));
+        touch(new File(home, ExplodedLauncher.LAUNCHER_JAR));
+        touch(new File(home, "lib/a.jar"));
+
+        assertThat(ExplodedLauncher.findHome(home)).isEqualTo(home);
+        assertThat(ExplodedLauncher.findHome(new File(home, ExplodedLauncher.LAUNCHER_JAR))).isEqualTo(home.getAbsoluteFile());
+        assertThat(ExplodedLauncher.findHome(new File(home, "lib/a.jar"))).isNull();
+        assertThat(ExplodedLauncher.findHome(new File(home, "lib"))).isNull();
+    }
+
+    private static List<String> relativePaths(File home, List<URL> urls) {
+        return urls.stream()
+            .map(URL::getPath)
+            .map(path -> path.substring(home.toURI().getPath().length()))
+            .collect(Collectors.toList());
+    }
+
+    private static void artifact(File file, String pomProperties) throws IOException {
+        file.getParentFile().mkdirs();
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(file))) {
+            out.putNextEntry(new ZipEntry(pomProperties));
+            out.closeEntry();
+        }
+    }
+
+    private static void touch(File file) throws IOException {
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), new byte[0]);
+    }
+
+}
@@ -0,0 +1,73 @@
+package dev.dong4j.zeka.maven.plugin.boot.boost;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 20:40
+ * @since 2026.1.0
+ */
+class SlotWatcherTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void newJarIsLoadedIntoChildLayer() throws Exception {
+        File patch = new File(this.tempDir, "patch");
+        patch.mkdirs();
+        writeJar(new File(patch, "existing.jar"), "existing.txt");
+        ClassLoader parent = new URLClassLoader(new URL[0], null);
+
+        System.setProperty(SlotWatcher.WATCH_PROPERTY, "true");
+        System.setProperty(SlotWatcher.QUIET_PERIOD_PROPERTY, "100");
+        SlotWatcher watcher = null;
+        try {
+            watcher = SlotWatcher.start(parent, this.tempDir.getAbsolutePath() + File.separator,
+                Collections.singletonList("patch/"));
+            assertThat(watcher).isNotNull();
+            writeJar(new File(patch, "hotfix.jar"), "hotfix.txt");
+
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (SlotWatcher.getClassLoader().getResource("hotfix.txt") == null && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            ClassLoader layer = SlotWatcher.getClassLoader();
+            assertThat(layer.getResource("hotfix.txt")).isNotNull();
+            assertThat(layer.getParent()).isSameAs(parent);
+            // 启动时已经存在的 jar 已经在应用的 class path 中, 不会重复加载
+            assertThat(layer.getResource("existing.txt")).isNull();
+        } finally {
+            if (watcher != null) {
+                watcher.stop();
+            }
+            System.clearProperty(SlotWatcher.WATCH_PROPERTY);
+            System.clearProperty(SlotWatcher.QUIET_PERIOD_PROPERTY);
+        }
+    }
+
+    private static void writeJar(File file, String entry) throws IOException {
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(file))) {
+            out.putNextEntry(new JarEntry(entry));
+            out.write(entry.getBytes());
+            out.closeEntry();
+        }
+    }
+
+}
@@ -0,0 +1,75 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader;
+
+import dev.dong4j.zeka.maven.plugin.boot.loader.archive.Archive;
+import dev.dong4j.zeka.maven.plugin.boot.loader.archive.JarFileArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 20:10
+ * @since 2026.1.0
+ */
+class ClassPathArtifactsTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void firstArtifactOnClassPathShadowsLaterOnes() throws Exception {
+        List<Archive> archives = Arrays.asList(
+            this.archive("patch/demo-core-1.1.jar", null, "META-INF/maven/dev.demo/demo-core/pom.properties"),
+            this.archive("lib/demo-core-1.0.jar", null, "META-INF/maven/dev.demo/demo-core/pom.properties"),
+            this.archive("lib/demo-api-1.0.jar", null, "META-INF/maven/dev.demo/demo-api/pom.properties"),
+            this.archive("lib/vendor-2.0.jar", "dev.vendor", "com/vendor/Type.class"),
+            this.archive("lib/vendor-1.0.jar", "dev.vendor", "com/vendor/Type.class"),
+            this.archive("lib/shaded.jar", null,
+                "META-INF/maven/dev.demo/shaded/pom.properties", "META-INF/maven/dev.demo/demo-api/pom.properties"),
+            this.archive("lib/plain.jar", null, "com/plain/Type.class"));
+        List<String> shadowed = new ArrayList<>();
+        List<Archive> result = ClassPathArtifacts.deduplicate(archives, shadowed::add);
+
+        // manifest 中 Implementation-Vendor-Id 和 Implementation-Title 相同的 jar 不去重
+        assertThat(result).containsExactly(archives.get(0), archives.get(2), archives.get(3), archives.get(4), archives.get(5),
+            archives.get(6));
+        assertThat(shadowed).hasSize(1);
+        assertThat(shadowed.get(0)).startsWith("Artifact dev.demo:demo-core: ");
+    }
+
+    private Archive archive(String name, String vendorId, String... entries) throws IOException {
+        File file = new File(this.tempDir, name);
+        file.getParentFile().mkdirs();
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        if (vendorId != null) {
+            manifest.getMainAttributes().putValue("Implementation-Vendor-Id", vendorId);
+            manifest.getMainAttributes().put(Attributes.Name.IMPLEMENTATION_TITLE, "vendor");
+        }
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(file), manifest)) {
+            for (String entry : entries) {
+                out.putNextEntry(new JarEntry(entry));
+                out.write(entry.getBytes());
+                out.closeEntry();
+            }
+        }
+        return new JarFileArchive(file);
+    }
+
+}
@@ -0,0 +1,169 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader;
+
+import dev.dong4j.zeka.maven.plugin.boot.loader.archive.Archive;
+import dev.dong4j.zeka.maven.plugin.boot.loader.archive.JarFileArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 13:20
+ * @since 2026.1.0
+ */
+class ClassPathIndexTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void ownersFollowClassPathOrder() throws Exception {
+        ClassPathIndex index = ClassPathIndex.of(Arrays.asList(
+            new TestArchive("a", "com/example", "com"),
+            new TestArchive("b", null),
+            new TestArchive("c", "com/example", "org"),
+            new TestArchive("a", "org")));
+        assertThat(index.getUrls()).hasSize(3);
+        assertThat(index.getOwners("com/example/Foo.class")).containsExactly(0, 1, 2);
+        assertThat(index.getOwners("org/Foo.class")).containsExactly(1, 2);
+        assertThat(index.getOwners("net/Foo.class")).containsExactly(1);
+    }
+
+    @Test
+    void missWithoutUnindexedArchivesHasNoOwners() throws Exception {
+        ClassPathIndex index = ClassPathIndex.of(Collections.singletonList(new TestArchive("a", "com/example", "com", "")));
+        assertThat(index.getOwners("net/Foo.class")).isEmpty();
+        assertThat(index.getOwners("application.yml")).containsExactly(0);
+    }
+
+    @Test
+    void indexMissProbesAddedUrls() throws Exception {
+        String classEntry = Sample.class.getName().replace('.', '/') + ".class";
+        File indexed = this.createJar("indexed.jar", "indexed/data.txt", new byte[]{1});
+        File added = this.createJar("added.jar", classEntry, readClass(classEntry));
+        try (JarFileArchive archive = new JarFileArchive(indexed);
+             LaunchedURLClassLoader loader = new LaunchedURLClassLoader(ClassPathIndex.of(Collections.singletonList(archive)), null)) {
+            assertThat(loader.getResource("indexed/data.txt")).isNotNull();
+            assertThat(loader.getResource("missing/data.txt")).isNull();
+            loader.addURL(added.toURI().toURL());
+            Class<?> type = loader.loadClass(Sample.class.getName());
+            assertThat(type.getClassLoader()).isSameAs(loader);
+            assertThat(loader.getResource(classEntry)).isNotNull();
+        }
+    }
+
+    @Test
+    void unownedPackageIsNotScanned() throws Exception {
+        File jar = this.createJar("stale.jar", "other/data.txt", new byte[]{1});
+        TestArchive archive = new TestArchive(jar.toURI().toURL(), "indexed");
+        try (LaunchedURLClassLoader loader = new LaunchedURLClassLoader(ClassPathIndex.of(Collections.singletonList(archive)), null)) {
+            assertThat(loader.getURLs()).containsExactly(jar.toURI().toURL());
+            assertThat(loader.getResource("other/data.txt")).isNull();
+            assertThat(loader.getResource("other%20data.txt")).isNull();
+        }
+    }
+
+    @Test
+    void indexHitDefinesClassAndPackage() throws Exception {
+        String classEntry = Sample.class.getName().replace('.', '/') + ".class";
+        File jar = this.createJar("sample.jar", classEntry, readClass(classEntry));
+        try (JarFileArchive archive = new JarFileArchive(jar);
+             LaunchedURLClassLoader loader = new LaunchedURLClassLoader(ClassPathIndex.of(Collections.singletonList(archive)), null)) {
+            Class<?> type = loader.loadClass(Sample.class.getName());
+            assertThat(type.getClassLoader()).isSameAs(loader);
+            assertThat(type.getPackage().getName()).isEqualTo(Sample.class.getPackage().getName());
+            assertThat(type.getProtectionDomain().getCodeSource().getLocation()).isEqualTo(archive.getUrl());
+        }
+    }
+
+    private File createJar(String name, String entryName, byte[] content) throws IOException {
+        File file = new File(this.tempDir, name);
+        try (JarOutputStream outputStream = new JarOutputStream(new FileOutputStream(file))) {
+            outputStream.putNextEntry(new ZipEntry(entryName));
+            outputStream.write(content);
+            outputStream.closeEntry();
+        }
+        return file;
+    }
+
+    private static byte[] readClass(String classEntry) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (InputStream inputStream = ClassPathIndexTest.class.getClassLoader().getResourceAsStream(classEntry)) {
+            byte[] buffer = new byte[256];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+        }
+        return outputStream.toByteArray();
+    }
+
+    static class Sample {
+
+    }
+
+    private static class TestArchive implements Archive {
+
+        private final URL url;
+
+        private final Set<String> packageNames;
+
+        TestArchive(String name, String... packageNames) throws MalformedURLException {
+            this(new URL("file:/" + name + ".jar"), packageNames);
+        }
+
+        TestArchive(URL url, String... packageNames) {
+            this.url = url;
+            this.packageNames = (packageNames != null) ? new HashSet<>(Arrays.asList(packageNames)) : null;
+        }
+
+        @Override
+        public URL getUrl() {
+            return this.url;
+        }
+
+        @Override
+        public Manifest getManifest() {
+            return null;
+        }
+
+        @Override
+        public List<Archive> getNestedArchives(EntryFilter filter) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Set<String> getPackageNames() {
+            return this.packageNames;
+        }
+
+        @Override
+        public Iterator<Entry> iterator() {
+            return Collections.emptyIterator();
+        }
+
+    }
+
+}
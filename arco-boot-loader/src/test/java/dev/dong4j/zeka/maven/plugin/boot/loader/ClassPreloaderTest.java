@@ -0,0 +1,45 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 15:40
+ * @since 2026.1.0
+ */
+class ClassPreloaderTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void recordedTraceIsReplayed() throws Exception {
+        File trace = new File(this.tempDir, "trace/startup.trace");
+        ClassLoadingRecorder recorder = new ClassLoadingRecorder(trace);
+        recorder.recordClass("java.util.ArrayList");
+        recorder.recordResource("META-INF/MANIFEST.MF");
+        recorder.recordClass("java.util.ArrayList");
+        recorder.recordClass("com.example.Missing");
+        recorder.write();
+        List<String> records = Files.readAllLines(trace.toPath(), StandardCharsets.UTF_8);
+        assertThat(records).containsExactly("C java.util.ArrayList", "R META-INF/MANIFEST.MF", "C com.example.Missing");
+
+        ClassPreloader preloader = new ClassPreloader(this.getClass().getClassLoader(), records);
+        preloader.run();
+        assertThat(preloader.isDone()).isTrue();
+        assertThat(preloader.getLoaded()).isEqualTo(2);
+    }
+
+}
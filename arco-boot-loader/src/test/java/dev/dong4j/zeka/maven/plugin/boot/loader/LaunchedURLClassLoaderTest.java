@@ -0,0 +1,110 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader;
+
+import dev.dong4j.zeka.maven.plugin.boot.loader.util.LoaderMetrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 23:55
+ * @since 2026.1.0
+ */
+class LaunchedURLClassLoaderTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void repeatedResourceMissDoesNotTouchClassPath() throws Exception {
+        CountingHandler handler = new CountingHandler();
+        try (LaunchedURLClassLoader loader = new LaunchedURLClassLoader(new URL[]{handler.root()}, null)) {
+            assertThat(loader.getResource("missing/data.txt")).isNull();
+            int opens = handler.opens.get();
+            assertThat(opens).isPositive();
+            long hits = LoaderMetrics.NEGATIVE_CACHE_HITS.get();
+            assertThat(loader.getResource("missing/data.txt")).isNull();
+            assertThat(loader.getResources("missing/data.txt").hasMoreElements()).isFalse();
+            assertThat(handler.opens.get()).isEqualTo(opens);
+            assertThat(LoaderMetrics.NEGATIVE_CACHE_HITS.get() - hits).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void repeatedClassMissDoesNotTouchClassPath() throws Exception {
+        CountingHandler handler = new CountingHandler();
+        try (LaunchedURLClassLoader loader = new LaunchedURLClassLoader(new URL[]{handler.root()}, null)) {
+            assertThatExceptionOfType(ClassNotFoundException.class).isThrownBy(() -> loader.loadClass("missing.Foo"));
+            int opens = handler.opens.get();
+            assertThat(opens).isPositive();
+            long hits = LoaderMetrics.NEGATIVE_CACHE_HITS.get();
+            assertThatExceptionOfType(ClassNotFoundException.class).isThrownBy(() -> loader.loadClass("missing.Foo"));
+            assertThat(handler.opens.get()).isEqualTo(opens);
+            assertThat(LoaderMetrics.NEGATIVE_CACHE_HITS.get() - hits).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void addUrlClearsNegativeCache() throws Exception {
+        File jar = new File(this.tempDir, "added.jar");
+        try (JarOutputStream outputStream = new JarOutputStream(new FileOutputStream(jar))) {
+            outputStream.putNextEntry(new ZipEntry("added/data.txt"));
+            outputStream.write(1);
+            outputStream.closeEntry();
+        }
+        try (LaunchedURLClassLoader loader = new LaunchedURLClassLoader(new URL[0], null)) {
+            assertThat(loader.getResource("added/data.txt")).isNull();
+            loader.addURL(jar.toURI().toURL());
+            assertThat(loader.getResource("added/data.txt")).isNotNull();
+        }
+    }
+
+    /**
+     * 记录打开连接次数的 url handler, 所有资源都不存在
+     */
+    private static class CountingHandler extends URLStreamHandler {
+
+        private final AtomicInteger opens = new AtomicInteger();
+
+        URL root() throws Exception {
+            return new URL("counting", null, -1, "/", this);
+        }
+
+        @Override
+        protected URLConnection openConnection(URL url) {
+            this.opens.incrementAndGet();
+            return new URLConnection(url) {
+
+                @Override
+                public void connect() throws FileNotFoundException {
+                    throw new FileNotFoundException(url.toString());
+                }
+
+                @Override
+                public InputStream getInputStream() throws FileNotFoundException {
+                    throw new FileNotFoundException(url.toString());
+                }
+
+            };
+        }
+
+    }
+
+}
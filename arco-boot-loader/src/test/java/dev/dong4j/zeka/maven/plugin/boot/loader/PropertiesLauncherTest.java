@@ -3,6 +3,7 @@ package dev.dong4j.zeka.maven.plugin.boot.loader;
 import dev.dong4j.zeka.maven.plugin.boot.loader.archive.Archive;
 import dev.dong4j.zeka.maven.plugin.boot.loader.archive.ExplodedArchive;
 import dev.dong4j.zeka.maven.plugin.boot.loader.archive.JarFileArchive;
+import dev.dong4j.zeka.maven.plugin.boot.loader.util.LoaderMetrics;
 import org.assertj.core.api.Condition;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -261,6 +262,18 @@ class PropertiesLauncherTest {
         assertThat(launcher.getMainClass()).isEqualTo("demo.FooApplication");
     }
 
+    @Test
+    void testManifestsAreReadOnce() throws Exception {
+        System.setProperty("loader.home", "src/test/resources/placeholders");
+        LoaderMetrics.reset();
+        PropertiesLauncher launcher = new PropertiesLauncher();
+        assertThat(launcher.getMainClass()).isEqualTo("demo.FooApplication");
+        assertThat(launcher.getArgs("bar")).containsExactly("bar");
+        launcher.createClassLoader(new ArrayList<>());
+        // 主目录和启动器所在的归档各打开一次
+        assertThat(LoaderMetrics.LAUNCHER_ARCHIVE_OPENS.get()).isEqualTo(2L);
+    }
+
     private void waitFor(String value) throws Exception {
     }
 
@@ -0,0 +1,89 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader.archive;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 15:10
+ * @since 2026.1.0
+ */
+class NestedArchivesTest {
+
+    @TempDir
+    File tempDir;
+
+    @AfterEach
+    void clearProperty() {
+        System.clearProperty(NestedArchives.PARALLEL_OPEN_PROPERTY);
+    }
+
+    @Test
+    void parallelOpenKeepsEntryOrder() throws Exception {
+        File outer = this.createOuterJar(24);
+        List<String> serial = this.describe(outer, false);
+        List<String> parallel = this.describe(outer, true);
+        assertThat(parallel).hasSize(24).isEqualTo(serial);
+    }
+
+    private List<String> describe(File outer, boolean parallel) throws Exception {
+        System.setProperty(NestedArchives.PARALLEL_OPEN_PROPERTY, String.valueOf(parallel));
+        List<String> result = new ArrayList<>();
+        try (JarFileArchive archive = new JarFileArchive(outer)) {
+            for (Archive nested : archive.getNestedArchives(entry -> entry.getName().startsWith("BOOT-INF/lib/"))) {
+                result.add(nested.getUrl() + " " + nested.getPackageNames());
+            }
+        }
+        return result;
+    }
+
+    private File createOuterJar(int count) throws IOException {
+        File file = new File(this.tempDir, "outer.jar");
+        try (JarOutputStream outputStream = new JarOutputStream(new FileOutputStream(file))) {
+            for (int i = 0; i < count; i++) {
+                byte[] content = createNestedJar("pkg" + i);
+                CRC32 crc = new CRC32();
+                crc.update(content);
+                JarEntry entry = new JarEntry("BOOT-INF/lib/lib" + i + ".jar");
+                entry.setMethod(ZipEntry.STORED);
+                entry.setSize(content.length);
+                entry.setCrc(crc.getValue());
+                outputStream.putNextEntry(entry);
+                outputStream.write(content);
+                outputStream.closeEntry();
+            }
+        }
+        return file;
+    }
+
+    private static byte[] createNestedJar(String packageName) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JarOutputStream outputStream = new JarOutputStream(bytes)) {
+            for (int i = 0; i < 50; i++) {
+                outputStream.putNextEntry(new JarEntry(packageName + "/sub" + (i % 5) + "/Type" + i + ".class"));
+                outputStream.write(i);
+                outputStream.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+}
@@ -0,0 +1,168 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader.archive;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 22:40
+ * @since 2026.1.0
+ */
+class UnpackCacheTest {
+
+    private static final long OLD = System.currentTimeMillis() - 10L * 24 * 60 * 60 * 1000;
+
+    @TempDir
+    File tempDir;
+
+    @AfterEach
+    void clearProperties() {
+        System.clearProperty(UnpackCache.DIR_PROPERTY);
+        System.clearProperty(UnpackCache.MAX_AGE_DAYS_PROPERTY);
+    }
+
+    @Test
+    void unchangedJarIsReusedAcrossRestarts() throws Exception {
+        File cache = new File(this.tempDir, "cache");
+        System.setProperty(UnpackCache.DIR_PROPERTY, cache.getAbsolutePath());
+        File outer = this.createOuterJar();
+
+        File first = this.unpack(outer);
+        assertThat(first.getParentFile().getParentFile()).isEqualTo(cache);
+        assertThat(first.getName()).isEqualTo("unpack.jar");
+        first.setLastModified(OLD);
+
+        File second = this.unpack(outer);
+        assertThat(second).isEqualTo(first);
+        // 没有重新写入
+        assertThat(second.lastModified()).isEqualTo(OLD);
+        String[] files = second.getParentFile().list();
+        assertThat(files).containsExactly("unpack.jar");
+    }
+
+    @Test
+    void staleDirectoriesAreRemovedButUsedOnesAreKept() throws Exception {
+        File cache = new File(this.tempDir, "cache");
+        System.setProperty(UnpackCache.DIR_PROPERTY, cache.getAbsolutePath());
+        File outer = this.createOuterJar();
+        File used = this.unpack(outer).getParentFile();
+        used.setLastModified(OLD);
+        File stale = new File(cache, "00000000-1");
+        stale.mkdirs();
+        new File(stale, "old.jar").createNewFile();
+        stale.setLastModified(OLD);
+
+        System.setProperty(UnpackCache.MAX_AGE_DAYS_PROPERTY, "1");
+        this.unpack(outer);
+        assertThat(stale.exists()).isFalse();
+        assertThat(used.exists()).isTrue();
+        // 复用时更新修改时间, 其他使用同一目录的 jar 不会把它当作过期目录
+        assertThat(used.lastModified() > OLD).isTrue();
+    }
+
+    @Test
+    void corruptedFileIsUnpackedAgain() throws Exception {
+        File cache = new File(this.tempDir, "cache");
+        System.setProperty(UnpackCache.DIR_PROPERTY, cache.getAbsolutePath());
+        File outer = this.createOuterJar();
+        File first = this.unpack(outer);
+        byte[] content = Files.readAllBytes(first.toPath());
+
+        // 长度相同, 内容被修改
+        byte[] corrupted = content.clone();
+        corrupted[0] ^= 1;
+        Files.write(first.toPath(), corrupted);
+        first.setLastModified(OLD);
+
+        File second = this.unpack(outer);
+        assertThat(second).isEqualTo(first);
+        assertThat(Files.readAllBytes(second.toPath())).isEqualTo(content);
+    }
+
+    @Test
+    void rootIsCreatedOwnerOnly() throws Exception {
+        if (!FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            return;
+        }
+        File cache = new File(this.tempDir, "cache");
+        System.setProperty(UnpackCache.DIR_PROPERTY, cache.getAbsolutePath());
+        this.unpack(this.createOuterJar());
+        assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(cache.toPath()))).isEqualTo("rwx------");
+    }
+
+    @Test
+    void rootWritableByOthersIsNotShared() throws Exception {
+        if (!FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            return;
+        }
+        File cache = new File(this.tempDir, "cache");
+        cache.mkdirs();
+        Files.setPosixFilePermissions(cache.toPath(), PosixFilePermissions.fromString("rwxrwxrwx"));
+        System.setProperty(UnpackCache.DIR_PROPERTY, cache.getAbsolutePath());
+        String tmpdir = System.getProperty("java.io.tmpdir");
+        System.setProperty("java.io.tmpdir", this.tempDir.getAbsolutePath());
+        try {
+            File file = this.unpack(this.createOuterJar());
+            assertThat(file.getParentFile().getParentFile()).isEqualTo(this.tempDir);
+            assertThat(file.getParentFile().getName()).startsWith("outer.jar-spring-boot-libs-");
+            assertThat(cache.list()).isEmpty();
+        } finally {
+            System.setProperty("java.io.tmpdir", tmpdir);
+        }
+    }
+
+    private File unpack(File outer) throws Exception {
+        try (JarFileArchive archive = new JarFileArchive(outer)) {
+            List<Archive> nested = archive.getNestedArchives(entry -> entry.getName().startsWith("BOOT-INF/lib/"));
+            assertThat(nested).hasSize(1);
+            File file = new File(nested.get(0).getUrl().toURI());
+            nested.get(0).close();
+            return file;
+        }
+    }
+
+    private File createOuterJar() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JarOutputStream outputStream = new JarOutputStream(bytes)) {
+            outputStream.putNextEntry(new JarEntry("pkg/Type.class"));
+            outputStream.write(1);
+            outputStream.closeEntry();
+        }
+        byte[] content = bytes.toByteArray();
+        File file = new File(this.tempDir, "outer.jar");
+        try (JarOutputStream outputStream = new JarOutputStream(new FileOutputStream(file))) {
+            CRC32 crc = new CRC32();
+            crc.update(content);
+            JarEntry entry = new JarEntry("BOOT-INF/lib/unpack.jar");
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(content.length);
+            entry.setCrc(crc.getValue());
+            entry.setComment("UNPACK:" + crc.getValue());
+            outputStream.putNextEntry(entry);
+            outputStream.write(content);
+            outputStream.closeEntry();
+        }
+        return file;
+    }
+
+}
@@ -0,0 +1,82 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader.data;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 10:12
+ * @since 2026.1.0
+ */
+class MappedRandomAccessDataTest {
+
+    @TempDir
+    File tempDir;
+
+    private File file;
+
+    private MappedRandomAccessData data;
+
+    @BeforeEach
+    void setup() throws IOException {
+        this.file = new File(this.tempDir, "data.bin");
+        try (FileOutputStream outputStream = new FileOutputStream(this.file)) {
+            for (int i = 0; i < 256; i++) {
+                outputStream.write(i);
+            }
+        }
+        this.data = MappedRandomAccessData.open(this.file);
+    }
+
+    @AfterEach
+    void close() {
+        System.clearProperty(MappedRandomAccessData.BUDGET_PROPERTY);
+        if (this.data != null) {
+            this.data.close();
+        }
+    }
+
+    @Test
+    void readMatchesFileContent() throws IOException {
+        RandomAccessDataFile expected = new RandomAccessDataFile(this.file);
+        try {
+            assertThat(this.data.getSize()).isEqualTo(expected.getSize());
+            assertThat(this.data.read()).isEqualTo(expected.read());
+            assertThat(this.data.read(10, 20)).isEqualTo(expected.read(10, 20));
+        } finally {
+            expected.close();
+        }
+    }
+
+    @Test
+    void subsectionInputStream() throws IOException {
+        RandomAccessData subsection = this.data.getSubsection(250, 6);
+        try (InputStream inputStream = subsection.getInputStream()) {
+            assertThat(inputStream.read()).isEqualTo(250);
+            byte[] bytes = new byte[10];
+            assertThat(inputStream.read(bytes)).isEqualTo(5);
+            assertThat(bytes[4] & 0xFF).isEqualTo(255);
+            assertThat(inputStream.read()).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    void openOverBudgetReturnsNull() throws IOException {
+        System.setProperty(MappedRandomAccessData.BUDGET_PROPERTY, "1");
+        assertThat(MappedRandomAccessData.open(this.file)).isNull();
+    }
+
+}
@@ -0,0 +1,186 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader.data;
+
+import dev.dong4j.zeka.maven.plugin.boot.loader.jar.CustomJarFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * <p>Description: 64 个线程同时从同一个 root jar 中读取 class 条目, 对比 {@code loader.io=file} (FileChannel 定位读取)
+ * 与 {@code loader.io=mmap} 两种实现在竞争下的吞吐量. </p>
+ * 通过 main 方法运行, 不参与 surefire 单元测试.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 11:05
+ * @since 2026.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(64)
+public class RandomAccessDataFileBenchmark {
+
+    /** ENTRY_COUNT */
+    private static final int ENTRY_COUNT = 2000;
+
+    /** Io */
+    @Param({"file", "mmap"})
+    public String io;
+
+    /** Directory */
+    private File directory;
+
+    /** Jar file */
+    private CustomJarFile jarFile;
+
+    /** Entries */
+    private JarEntry[] entries;
+
+    /**
+     * Setup
+     *
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        this.directory = Files.createTempDirectory("loader-benchmark").toFile();
+        File file = new File(this.directory, "app.jar");
+        Random random = new Random(0);
+        try (JarOutputStream outputStream = new JarOutputStream(new FileOutputStream(file))) {
+            for (int i = 0; i < ENTRY_COUNT; i++) {
+                outputStream.putNextEntry(new JarEntry("com/example/pkg" + (i % 40) + "/Type" + i + ".class"));
+                byte[] content = new byte[1024 + random.nextInt(8 * 1024)];
+                // 一半随机一半重复, 接近 class 文件的压缩比
+                random.nextBytes(content);
+                for (int j = content.length / 2; j < content.length; j++) {
+                    content[j] = (byte) (j % 16);
+                }
+                outputStream.write(content);
+                outputStream.closeEntry();
+            }
+        }
+        System.setProperty(CustomJarFile.IO_PROPERTY, this.io);
+        this.jarFile = new CustomJarFile(file);
+        this.entries = new JarEntry[ENTRY_COUNT];
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            this.entries[i] = this.jarFile.getJarEntry("com/example/pkg" + (i % 40) + "/Type" + i + ".class");
+        }
+    }
+
+    /**
+     * Tear down
+     *
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.jarFile.close();
+        System.clearProperty(CustomJarFile.IO_PROPERTY);
+        File[] files = this.directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                Files.delete(file.toPath());
+            }
+        }
+        Files.delete(this.directory.toPath());
+    }
+
+    /**
+     * 每次调用读取一个完整的 class 条目, 与 LaunchedURLClassLoader 加载类时的读取路径一致.
+     *
+     * @param cursor cursor
+     * @return the long
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    @Benchmark
+    public long readEntry(Cursor cursor) throws IOException {
+        JarEntry entry = this.entries[cursor.next()];
+        long total = 0;
+        try (InputStream inputStream = this.jarFile.getInputStream(entry)) {
+            int read;
+            while ((read = inputStream.read(cursor.buffer)) != -1) {
+                total += read;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 每个线程独立的读取位置, 避免线程之间在同一个条目上排队.
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 11:05
+     * @since 2026.1.0
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        /** Buffer */
+        private final byte[] buffer = new byte[4096];
+
+        /** Index */
+        private int index = (int) (Thread.currentThread().getId() * 31 % ENTRY_COUNT);
+
+        /**
+         * Next int
+         *
+         * @return the int
+         * @since 2026.1.0
+         */
+        private int next() {
+            this.index = (this.index + 1) % ENTRY_COUNT;
+            return this.index;
+        }
+
+    }
+
+    /**
+     * Main
+     *
+     * @param args args
+     * @throws RunnerException runner exception
+     * @since 2026.1.0
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(RandomAccessDataFileBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+
+}
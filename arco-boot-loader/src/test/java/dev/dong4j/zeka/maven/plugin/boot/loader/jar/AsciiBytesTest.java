@@ -0,0 +1,37 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader.jar;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 16:20
+ * @since 2026.1.0
+ */
+class AsciiBytesTest {
+
+    @Test
+    void substringUsesRequestedLength() {
+        AsciiBytes name = new AsciiBytes("BOOT-INF/classes/com/x/App.class");
+        AsciiBytes nested = name.substring("BOOT-INF/classes/".length());
+        assertThat(nested.toString()).isEqualTo("com/x/App.class");
+        assertThat(nested.hashCode()).isEqualTo("com/x/App.class".hashCode());
+        assertThat(name.substring(5, 13).toString()).isEqualTo("INF/clas");
+    }
+
+    @Test
+    void matchesPrefixedNameWithoutConcatenation() {
+        AsciiBytes name = new AsciiBytes("META-INF/versions/11/com/x/Ünïcode.class");
+        assertThat(name.matches("META-INF/versions/11/", "com/x/Ünïcode.class", (char) 0)).isTrue();
+        assertThat(name.matches("META-INF/versions/11/com/", "x/Ünïcode.class", (char) 0)).isTrue();
+        assertThat(name.matches("META-INF/versions/9/", "com/x/Ünïcode.class", (char) 0)).isFalse();
+        assertThat(name.matches("META-INF/versions/11/", "com/x/Ünïcode", (char) 0)).isFalse();
+        assertThat(new AsciiBytes("META-INF/versions/11/com/").matches("META-INF/versions/11/", "com", '/')).isTrue();
+    }
+
+}
@@ -0,0 +1,339 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader.jar;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Description: 对比原来的 {@code Collections.synchronizedMap(LinkedHashMap)} LRU 条目缓存 ({@code lru})
+ * 与 {@link EntryCache} ({@code concurrent}) 在多线程类加载访问模式下的吞吐量和命中率. </p>
+ * 访问模式: 按偏斜分布选择条目, 每次查找后立即再次查找同一条目 (与 {@code getEntry} 之后 {@code getInputStream} 的路径一致),
+ * 命中和未命中次数通过 {@link AuxCounters} 输出.
+ * 通过 main 方法运行, 不参与 surefire 单元测试.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 14:40
+ * @since 2026.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+public class EntryCacheBenchmark {
+
+    /** ENTRY_COUNT */
+    private static final int ENTRY_COUNT = 4000;
+
+    /** Implementation */
+    @Param({"lru", "concurrent"})
+    public String implementation;
+
+    /** Capacity */
+    @Param({"25", "256", "4096"})
+    public int capacity;
+
+    /** Cache */
+    private Cache cache;
+
+    /** Headers */
+    private FileHeader[] headers;
+
+    /**
+     * Setup
+     *
+     * @since 2026.1.0
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        this.headers = new FileHeader[ENTRY_COUNT];
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            this.headers[i] = new TestFileHeader(i);
+        }
+        this.cache = "lru".equals(this.implementation) ? new LruCache(this.capacity) : new ConcurrentCache(this.capacity);
+    }
+
+    /**
+     * 查找一个条目, 未命中时放入缓存
+     *
+     * @param access access
+     * @return the file header
+     * @since 2026.1.0
+     */
+    @Benchmark
+    public FileHeader lookup(Access access) {
+        int index = access.next();
+        FileHeader header = this.cache.get(index);
+        if (header != null) {
+            access.hits++;
+            return header;
+        }
+        access.misses++;
+        header = this.headers[index];
+        this.cache.put(index, header);
+        return header;
+    }
+
+    /**
+     * 每个线程的访问序列和命中计数
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 14:40
+     * @since 2026.1.0
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Access {
+
+        /** Hits */
+        public long hits;
+
+        /** Misses */
+        public long misses;
+
+        /** Random */
+        private final Random random = new Random(Thread.currentThread().getId());
+
+        /** Last */
+        private int last = -1;
+
+        /**
+         * Reset
+         *
+         * @since 2026.1.0
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.hits = 0;
+            this.misses = 0;
+        }
+
+        /**
+         * 偶数次访问选择新条目 (平方分布, 偏向热点条目), 奇数次访问重复上一个条目
+         *
+         * @return the int
+         * @since 2026.1.0
+         */
+        private int next() {
+            if (this.last >= 0) {
+                int index = this.last;
+                this.last = -1;
+                return index;
+            }
+            double value = this.random.nextDouble();
+            this.last = (int) (value * value * ENTRY_COUNT);
+            return this.last;
+        }
+
+    }
+
+    /**
+     * Cache
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 14:40
+     * @since 2026.1.0
+     */
+    private interface Cache {
+
+        /**
+         * Get file header
+         *
+         * @param index index
+         * @return the file header
+         * @since 2026.1.0
+         */
+        FileHeader get(int index);
+
+        /**
+         * Put
+         *
+         * @param index  index
+         * @param header header
+         * @since 2026.1.0
+         */
+        void put(int index, FileHeader header);
+
+    }
+
+    /**
+     * 原来的实现: access order 的 LinkedHashMap, 每次 get 都在锁内调整顺序
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 14:40
+     * @since 2026.1.0
+     */
+    private static final class LruCache implements Cache {
+
+        /** Map */
+        private final Map<Integer, FileHeader> map;
+
+        /**
+         * Lru cache
+         *
+         * @param capacity capacity
+         * @since 2026.1.0
+         */
+        LruCache(int capacity) {
+            this.map = Collections.synchronizedMap(new LinkedHashMap<Integer, FileHeader>(16, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, FileHeader> eldest) {
+                    return this.size() >= capacity;
+                }
+
+            });
+        }
+
+        @Override
+        public FileHeader get(int index) {
+            return this.map.get(index);
+        }
+
+        @Override
+        public void put(int index, FileHeader header) {
+            this.map.put(index, header);
+        }
+
+    }
+
+    /**
+     * {@link EntryCache}
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 14:40
+     * @since 2026.1.0
+     */
+    private static final class ConcurrentCache implements Cache {
+
+        /** Delegate */
+        private final EntryCache delegate;
+
+        /**
+         * Concurrent cache
+         *
+         * @param capacity capacity
+         * @since 2026.1.0
+         */
+        ConcurrentCache(int capacity) {
+            this.delegate = new EntryCache(capacity);
+        }
+
+        @Override
+        public FileHeader get(int index) {
+            return this.delegate.get(index);
+        }
+
+        @Override
+        public void put(int index, FileHeader header) {
+            this.delegate.put(index, header, false);
+        }
+
+    }
+
+    /**
+     * Test file header
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 14:40
+     * @since 2026.1.0
+     */
+    private static final class TestFileHeader implements FileHeader {
+
+        /** Offset */
+        private final long offset;
+
+        /**
+         * Test file header
+         *
+         * @param offset offset
+         * @since 2026.1.0
+         */
+        TestFileHeader(long offset) {
+            this.offset = offset;
+        }
+
+        @Override
+        public boolean hasName(CharSequence name, char suffix) {
+            return false;
+        }
+
+        @Override
+        public boolean hasName(String prefix, CharSequence name, char suffix) {
+            return false;
+        }
+
+        @Override
+        public long getLocalHeaderOffset() {
+            return this.offset;
+        }
+
+        @Override
+        public long getCompressedSize() {
+            return 0;
+        }
+
+        @Override
+        public long getSize() {
+            return 0;
+        }
+
+        @Override
+        public int getMethod() {
+            return 0;
+        }
+
+    }
+
+    /**
+     * Main
+     *
+     * @param args args
+     * @throws RunnerException runner exception
+     * @since 2026.1.0
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(EntryCacheBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,137 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader.jar;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+
+/**
+ * <p>Description: {@link CustomJarFile#getEntry(String)} 每次调用的耗时和分配的字节数 (使用 {@link GCProfiler}, 查看 {@code gc.alloc.rate.norm}).
+ * 条目已经在缓存中, 因此分配只来自查找路径本身: {@code hit} 为普通 jar 中存在的条目, {@code miss} 为不存在的条目,
+ * {@code multiRelease} 为 multi-release jar 中的条目, 还需要通过 {@link VersionedEntries} 查找 {@code META-INF/versions/<n>/} 下的条目. </p>
+ * 通过 main 方法运行, 不参与 surefire 单元测试.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 21:10
+ * @since 2026.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntryLookupBenchmark {
+
+    /** ENTRY_COUNT */
+    private static final int ENTRY_COUNT = 2000;
+
+    /** Lookup */
+    @Param({"hit", "miss", "multiRelease"})
+    public String lookup;
+
+    /** Jar */
+    private File jar;
+
+    /** Jar file */
+    private CustomJarFile jarFile;
+
+    /** Name */
+    private String name;
+
+    /**
+     * Setup
+     *
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        boolean multiRelease = "multiRelease".equals(this.lookup);
+        this.jar = File.createTempFile("entry-lookup", ".jar");
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        if (multiRelease) {
+            manifest.getMainAttributes().putValue("Multi-Release", "true");
+        }
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(this.jar), manifest)) {
+            for (int i = 0; i < ENTRY_COUNT; i++) {
+                out.putNextEntry(new JarEntry("com/example/pkg" + (i % 20) + "/Type" + i + ".class"));
+                out.closeEntry();
+            }
+            if (multiRelease) {
+                out.putNextEntry(new JarEntry("META-INF/versions/9/com/example/pkg0/Type0.class"));
+                out.closeEntry();
+            }
+        }
+        this.jarFile = new CustomJarFile(this.jar);
+        this.name = "miss".equals(this.lookup) ? "com/example/pkg0/Missing.class" : "com/example/pkg0/Type0.class";
+        // 先查找一次, 之后的查找都命中条目缓存
+        this.jarFile.getEntry(this.name);
+    }
+
+    /**
+     * Tear down
+     *
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.jarFile.close();
+        this.jar.delete();
+    }
+
+    /**
+     * Get entry
+     *
+     * @return the zip entry
+     * @since 2026.1.0
+     */
+    @Benchmark
+    public ZipEntry getEntry() {
+        return this.jarFile.getEntry(this.name);
+    }
+
+    /**
+     * Main
+     *
+     * @param args args
+     * @throws RunnerException runner exception
+     * @since 2026.1.0
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(EntryLookupBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+
+}
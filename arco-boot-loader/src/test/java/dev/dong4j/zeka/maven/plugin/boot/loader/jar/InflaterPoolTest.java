@@ -0,0 +1,78 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader.jar;
+
+import dev.dong4j.zeka.maven.plugin.boot.loader.util.LoaderMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.Deflater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 22:10
+ * @since 2026.1.0
+ */
+class InflaterPoolTest {
+
+    @Test
+    void closedStreamsReuseInflaters() throws IOException {
+        InflaterPool pool = new InflaterPool(2);
+        LoaderMetrics.reset();
+        for (int i = 0; i < 10; i++) {
+            byte[] content = ("content" + i + "-").concat(new String(new char[InflaterPool.BUFFER_SIZE * 2]).replace('\0', 'x')).getBytes();
+            try (InputStream inputStream = new ZipInflaterInputStream(new ByteArrayInputStream(deflate(content)), content.length, pool)) {
+                assertThat(readAll(inputStream)).isEqualTo(content);
+            }
+        }
+        assertThat(LoaderMetrics.INFLATER_POOL_MISSES.get()).isEqualTo(1L);
+        assertThat(LoaderMetrics.INFLATER_POOL_HITS.get()).isEqualTo(9L);
+        assertThat(pool.size()).isEqualTo(1);
+    }
+
+    @Test
+    void doubleCloseReturnsOnceAndFullPoolDiscards() throws IOException {
+        InflaterPool pool = new InflaterPool(1);
+        LoaderMetrics.reset();
+        byte[] content = "content".getBytes();
+        InputStream first = new ZipInflaterInputStream(new ByteArrayInputStream(deflate(content)), content.length, pool);
+        InputStream second = new ZipInflaterInputStream(new ByteArrayInputStream(deflate(content)), content.length, pool);
+        first.close();
+        first.close();
+        assertThat(pool.size()).isEqualTo(1);
+        second.close();
+        assertThat(pool.size()).isEqualTo(1);
+        assertThat(LoaderMetrics.INFLATER_POOL_DISCARDS.get()).isEqualTo(1L);
+    }
+
+    private static byte[] deflate(byte[] content) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        deflater.setInput(content);
+        deflater.finish();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        while (!deflater.finished()) {
+            outputStream.write(buffer, 0, deflater.deflate(buffer));
+        }
+        deflater.end();
+        return outputStream.toByteArray();
+    }
+
+    private static byte[] readAll(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[256];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+        return outputStream.toByteArray();
+    }
+
+}
@@ -0,0 +1,64 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader.jar;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 23:40
+ * @since 2026.1.0
+ */
+class InterruptedReadTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void entryCanBeReadFromInterruptedThread() throws Exception {
+        byte[] content = new String(new char[64 * 1024]).replace('\0', 'x').getBytes();
+        File file = new File(this.tempDir, "test.jar");
+        try (JarOutputStream outputStream = new JarOutputStream(new FileOutputStream(file))) {
+            outputStream.putNextEntry(new ZipEntry("pkg/Type.class"));
+            outputStream.write(content);
+            outputStream.closeEntry();
+        }
+        try (CustomJarFile jarFile = new CustomJarFile(file)) {
+            Thread.currentThread().interrupt();
+            try {
+                assertThat(readAll(jarFile, "pkg/Type.class")).isEqualTo(content);
+                assertThat(Thread.currentThread().isInterrupted()).isTrue();
+            } finally {
+                Thread.interrupted();
+            }
+            // 共享的 channel 没有被关闭
+            assertThat(readAll(jarFile, "pkg/Type.class")).isEqualTo(content);
+        }
+    }
+
+    private static byte[] readAll(CustomJarFile jarFile, String name) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (InputStream inputStream = jarFile.getInputStream(jarFile.getEntry(name))) {
+            byte[] buffer = new byte[256];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+        }
+        return outputStream.toByteArray();
+    }
+
+}
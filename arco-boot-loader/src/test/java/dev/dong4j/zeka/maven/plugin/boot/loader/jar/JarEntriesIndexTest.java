@@ -0,0 +1,136 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader.jar;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 11:40
+ * @since 2026.1.0
+ */
+class JarEntriesIndexTest {
+
+    private static final String NESTED_JAR = "BOOT-INF/lib/nested.jar";
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void nestedJarWithIndexReadsSameEntries() throws IOException {
+        byte[] nested = createNestedJar();
+        File indexed = this.createOuterJar("indexed.jar", nested, JarEntriesIndex.create(nested));
+        File plain = this.createOuterJar("plain.jar", nested, null);
+        assertThat(this.describe(indexed)).isEqualTo(this.describe(plain));
+    }
+
+    @Test
+    void indexForDifferentJarIsIgnored() throws IOException {
+        byte[] nested = createNestedJar();
+        byte[] other = createNestedJar();
+        // 修改 central directory 之前的内容, 索引仍然可以生成但 CRC 不同
+        other[10] ^= 1;
+        File mismatched = this.createOuterJar("mismatched.jar", nested, JarEntriesIndex.create(other));
+        File plain = this.createOuterJar("plain.jar", nested, null);
+        assertThat(this.describe(mismatched)).isEqualTo(this.describe(plain));
+    }
+
+    @Test
+    void indexFromFileOrOuterJarMatchesIndexFromBytes() throws IOException {
+        byte[] nested = createNestedJar();
+        byte[] expected = JarEntriesIndex.create(nested);
+        CRC32 crc = new CRC32();
+        crc.update(nested);
+        File nestedFile = new File(this.tempDir, "nested.jar");
+        Files.write(nestedFile.toPath(), nested);
+        assertThat(JarEntriesIndex.create(nestedFile, crc.getValue())).isEqualTo(expected);
+        try (CustomJarFile outer = new CustomJarFile(this.createOuterJar("outer.jar", nested, null))) {
+            assertThat(JarEntriesIndex.create(outer, outer.getEntry(NESTED_JAR))).isEqualTo(expected);
+        }
+    }
+
+    private List<String> describe(File outer) throws IOException {
+        List<String> result = new ArrayList<>();
+        try (CustomJarFile jarFile = new CustomJarFile(outer);
+             CustomJarFile nestedJarFile = jarFile.getNestedJarFile(jarFile.getJarEntry(NESTED_JAR))) {
+            for (JarEntry entry : Collections.list(nestedJarFile.entries())) {
+                result.add(entry.getName());
+            }
+            for (int i = 0; i < 200; i++) {
+                try (InputStream inputStream = nestedJarFile.getInputStream(nestedJarFile.getEntry("pkg" + (i % 9) + "/Type" + i + ".class"))) {
+                    result.add(new String(readAll(inputStream)));
+                }
+            }
+            result.add(String.valueOf(nestedJarFile.getEntry("missing") == null));
+            result.add(String.valueOf(nestedJarFile.getEntry("dir") != null));
+        }
+        return result;
+    }
+
+    private File createOuterJar(String name, byte[] nested, byte[] index) throws IOException {
+        File file = new File(this.tempDir, name);
+        try (JarOutputStream outputStream = new JarOutputStream(new FileOutputStream(file))) {
+            putStored(outputStream, NESTED_JAR, nested);
+            if (index != null) {
+                putStored(outputStream, JarEntriesIndex.getIndexName(NESTED_JAR), index);
+            }
+        }
+        return file;
+    }
+
+    private static void putStored(JarOutputStream outputStream, String name, byte[] content) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        JarEntry entry = new JarEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(content.length);
+        entry.setCrc(crc.getValue());
+        outputStream.putNextEntry(entry);
+        outputStream.write(content);
+        outputStream.closeEntry();
+    }
+
+    private static byte[] createNestedJar() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JarOutputStream outputStream = new JarOutputStream(bytes)) {
+            for (int i = 0; i < 200; i++) {
+                outputStream.putNextEntry(new JarEntry("pkg" + (i % 9) + "/Type" + i + ".class"));
+                outputStream.write(("content" + i).getBytes());
+                outputStream.closeEntry();
+            }
+            outputStream.putNextEntry(new JarEntry("dir/"));
+            outputStream.closeEntry();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] readAll(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[256];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+        return outputStream.toByteArray();
+    }
+
+}
@@ -0,0 +1,124 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader.jar;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 21:40
+ * @since 2026.1.0
+ */
+class VersionedEntriesTest {
+
+    private static final String NESTED_JAR = "BOOT-INF/lib/nested.jar";
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void multiReleaseJarReturnsHighestApplicableVersion() throws IOException {
+        File file = new File(this.tempDir, "multi-release.jar");
+        try (FileOutputStream outputStream = new FileOutputStream(file)) {
+            outputStream.write(createMultiReleaseJar());
+        }
+        try (CustomJarFile jarFile = new CustomJarFile(file)) {
+            assertMultiReleaseEntries(jarFile);
+        }
+    }
+
+    @Test
+    void indexedNestedMultiReleaseJarReturnsHighestApplicableVersion() throws IOException {
+        byte[] nested = createMultiReleaseJar();
+        File file = new File(this.tempDir, "outer.jar");
+        try (JarOutputStream outputStream = new JarOutputStream(new FileOutputStream(file))) {
+            putStored(outputStream, NESTED_JAR, nested);
+            putStored(outputStream, JarEntriesIndex.getIndexName(NESTED_JAR), JarEntriesIndex.create(nested));
+        }
+        try (CustomJarFile jarFile = new CustomJarFile(file);
+             CustomJarFile nestedJarFile = jarFile.getNestedJarFile(jarFile.getJarEntry(NESTED_JAR))) {
+            assertMultiReleaseEntries(nestedJarFile);
+        }
+    }
+
+    private static void assertMultiReleaseEntries(CustomJarFile jarFile) throws IOException {
+        // 测试运行在 11 及以上的 JDK 中, 11 覆盖 9, 99 高于运行时版本被忽略
+        assertThat(read(jarFile, "com/example/Overridden.class")).isEqualTo("11");
+        assertThat(jarFile.getEntry("com/example/Overridden.class").getName()).isEqualTo("com/example/Overridden.class");
+        assertThat(read(jarFile, "com/example/Base.class")).isEqualTo("base");
+        assertThat(read(jarFile, "com/example/VersionedOnly.class")).isEqualTo("9");
+        assertThat(jarFile.containsEntry("com/example/VersionedOnly.class")).isTrue();
+        assertThat(jarFile.getEntry("com/example/versioned")).isNotNull();
+        assertThat(jarFile.getEntry("com/example/Missing.class")).isNull();
+        assertThat(read(jarFile, "META-INF/versions/9/com/example/Overridden.class")).isEqualTo("9");
+    }
+
+    private static String read(CustomJarFile jarFile, String name) throws IOException {
+        try (InputStream inputStream = jarFile.getInputStream(jarFile.getEntry(name))) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[256];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+            return new String(outputStream.toByteArray());
+        }
+    }
+
+    private static byte[] createMultiReleaseJar() throws IOException {
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().putValue("Multi-Release", "true");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JarOutputStream outputStream = new JarOutputStream(bytes, manifest)) {
+            put(outputStream, "com/example/Base.class", "base");
+            put(outputStream, "com/example/Overridden.class", "base");
+            for (int i = 0; i < 100; i++) {
+                put(outputStream, "com/example/pkg" + (i % 9) + "/Type" + i + ".class", "content" + i);
+            }
+            put(outputStream, "META-INF/versions/9/com/example/Overridden.class", "9");
+            put(outputStream, "META-INF/versions/11/com/example/Overridden.class", "11");
+            put(outputStream, "META-INF/versions/99/com/example/Overridden.class", "99");
+            put(outputStream, "META-INF/versions/9/com/example/VersionedOnly.class", "9");
+            outputStream.putNextEntry(new JarEntry("META-INF/versions/9/com/example/versioned/"));
+            outputStream.closeEntry();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void put(JarOutputStream outputStream, String name, String content) throws IOException {
+        outputStream.putNextEntry(new JarEntry(name));
+        outputStream.write(content.getBytes());
+        outputStream.closeEntry();
+    }
+
+    private static void putStored(JarOutputStream outputStream, String name, byte[] content) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        JarEntry entry = new JarEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(content.length);
+        entry.setCrc(crc.getValue());
+        outputStream.putNextEntry(entry);
+        outputStream.write(content);
+        outputStream.closeEntry();
+    }
+
+}
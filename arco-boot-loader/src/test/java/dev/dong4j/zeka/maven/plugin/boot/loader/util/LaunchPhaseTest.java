@@ -0,0 +1,37 @@
+package dev.dong4j.zeka.maven.plugin.boot.loader.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 23:10
+ * @since 2026.1.0
+ */
+class LaunchPhaseTest {
+
+    @Test
+    @SuppressWarnings("try")
+    void timingsAccumulatePerPhase() throws Exception {
+        LaunchPhase.reset();
+        for (int i = 0; i < 2; i++) {
+            try (LaunchPhase.Timing ignored = LaunchPhase.ARCHIVES.start()) {
+                Thread.sleep(5);
+            }
+        }
+        assertThat(LaunchPhase.ARCHIVES.getNanos() >= TimeUnit.MILLISECONDS.toNanos(10)).isTrue();
+        assertThat(LaunchPhase.MAIN_METHOD.getNanos()).isEqualTo(0L);
+        assertThat(LaunchPhase.snapshot().keySet())
+            .containsExactly("properties", "archives", "class_loader", "main_class", "main_method");
+        assertThat(LaunchPhase.summary()).startsWith("Launch phases (ms): properties=0.0 archives=");
+        assertThat(LaunchPhase.summary().contains("loader metrics: {")).isTrue();
+    }
+
+}
@@ -0,0 +1,305 @@
+package dev.dong4j.zeka.maven.plugin.boot;
+
+import dev.dong4j.zeka.maven.plugin.boot.boost.BootLauncher;
+import dev.dong4j.zeka.maven.plugin.boot.boost.ExplodedLauncher;
+import dev.dong4j.zeka.maven.plugin.common.Plugins;
+import dev.dong4j.zeka.maven.plugin.common.ZekaMavenPluginAbstractMojo;
+import dev.dong4j.zeka.maven.plugin.common.enums.ModuleType;
+import dev.dong4j.zeka.maven.plugin.common.util.PluginUtils;
+import lombok.SneakyThrows;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * <p>Description: 以训练模式运行一次重新打包后的应用 (需要在 jar-repackage 之后执行), 生成动态 CDS 归档
+ * {@code ${project.build.finalName}.jsa}, 由 launcher 脚本通过 {@code -XX:SharedArchiveFile} 使用以缩短冷启动时间. </p>
+ * 训练进程使用 {@code -XX:ArchiveClassesAtExit} 和 {@code -Dloader.cds.training=true} 启动, 应用启动完成后由 loader 退出 JVM.
+ * 存在展开目录 ({@code -Djar.repackage.exploded=true}) 时优先使用展开目录训练: 以 {@code -cp launcher.jar BootLauncher} 启动,
+ * 依赖都是 {@code file:} URL 的普通 jar, 归档写入展开目录; 否则以 {@code -jar} 启动重新打包后的 jar, 归档写入 jar 旁边,
+ * 此时嵌套 jar 中的 class 不会被归档, 只有 JDK 和启动器的 class 受益, 会输出警告.
+ * 注意:
+ * <ul>
+ *     <li>需要 JDK 13 及以上, 且训练和运行使用同一个 JDK 版本, 否则运行时会忽略归档</li>
+ *     <li>jar (展开目录中为 launcher.jar) 必须与训练时完全一致 (大小和修改时间), 训练后不能再修改</li>
+ *     <li>训练时以 jar 所在目录为工作目录, 使用相对路径启动, 运行时需要以相同的方式启动 (launcher 脚本已处理)</li>
+ * </ul>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 16:20
+ * @since 2026.1.0
+ */
+@Mojo(name = "cds-archive",
+      defaultPhase = LifecyclePhase.PACKAGE,
+      threadSafe = true,
+      requiresDependencyResolution = ResolutionScope.RUNTIME)
+public class CdsArchiveMojo extends ZekaMavenPluginAbstractMojo {
+    /** 训练进程启动完成后等待 JVM 写入归档的时间 (秒) */
+    private static final long DUMP_GRACE_SECONDS = 60;
+    /** 重新打包后的 JAR 所在文件夹 */
+    @Parameter(property = "sourceDir", required = true, defaultValue = "${project.build.directory}")
+    private File sourceDir;
+    /** 重新打包后的 JAR 名称 */
+    @Parameter(property = "sourceJar", required = true, defaultValue = "${project.build.finalName}.jar")
+    private String sourceJar;
+    /** 展开目录, 与 jar-repackage 的 jar.repackage.explodedDirectory 一致, 存在时使用展开目录训练 */
+    @Parameter(property = "jar.repackage.explodedDirectory", defaultValue = "${project.build.directory}/exploded")
+    private File explodedDirectory;
+    /** 生成的 CDS 归档文件, 必须与 jar 或展开目录一起部署, 默认为训练目录下的 ${project.build.finalName}.jsa */
+    @Parameter(property = "cds.archiveFile")
+    private File archiveFile;
+    /** 训练使用的 JDK, 必须与运行时使用的 JDK 版本一致 */
+    @Parameter(property = "cds.javaHome", defaultValue = "${java.home}")
+    private File javaHome;
+    /** 训练进程的 JVM 参数, 建议与运行时的 JVM 参数保持一致 (例如 GC 和堆大小) */
+    @Parameter(property = "cds.jvmArguments")
+    private String jvmArguments;
+    /** 传递给应用的参数, 例如 --spring.profiles.active=test */
+    @Parameter(property = "cds.arguments")
+    private String arguments;
+    /** 训练超时时间 (秒), 应用启动后没有退出时由 loader 在超时后退出 */
+    @Parameter(property = "cds.timeout", defaultValue = "120")
+    private long timeout;
+    /** 训练失败时是否中断构建, 默认只输出警告 */
+    @Parameter(property = "cds.failOnError", defaultValue = "false")
+    private boolean failOnError;
+    /** Set this to 'true' to bypass cds archive */
+    @Parameter(property = Plugins.SKIP_CDS_ARCHIVE, defaultValue = Plugins.TURN_OFF_PLUGIN)
+    private boolean skip;
+
+    /**
+     * Execute *
+     *
+     * @since 2026.1.0
+     */
+    @Override
+    @SneakyThrows
+    public void execute() {
+
+        ModuleType moduleType = PluginUtils.moduleType();
+
+        if (this.skip || !moduleType.equals(ModuleType.DELOPY)) {
+            this.getLog().info("arco-boot-maven-plugin:cds-archive is skipped");
+            return;
+        }
+
+        boolean exploded = new File(this.explodedDirectory, ExplodedLauncher.LAUNCHER_JAR).isFile();
+        File workingDirectory = exploded ? this.explodedDirectory : this.sourceDir;
+        File jar = new File(this.sourceDir, this.sourceJar);
+        if (!exploded && !jar.isFile()) {
+            this.fail("CDS 训练失败, 未找到 " + jar, null);
+            return;
+        }
+        if (!exploded) {
+            this.getLog().warn("未找到展开目录 " + new File(this.explodedDirectory, ExplodedLauncher.LAUNCHER_JAR)
+                               + ", 使用 -jar 训练: 嵌套 jar 中的 class 不会被归档, 建议使用 -Djar.repackage.exploded=true 生成展开目录");
+        }
+        if (this.archiveFile == null) {
+            String name = this.sourceJar.endsWith(".jar")
+                ? this.sourceJar.substring(0, this.sourceJar.length() - ".jar".length())
+                : this.sourceJar;
+            this.archiveFile = new File(workingDirectory, name + ".jsa");
+        }
+        this.deleteArchive();
+
+        List<String> command = exploded ? this.buildExplodedCommand() : this.buildCommand();
+        this.getLog().info("training cds archive: " + String.join(" ", command));
+
+        try {
+            int exitCode = this.run(command, workingDirectory);
+            if (exitCode != 0 || !this.archiveFile.isFile()) {
+                // 启动失败时 JVM 同样会写入归档, 删除不完整的归档避免被部署
+                this.deleteArchive();
+                this.fail("CDS 训练失败, exit code: " + exitCode + ", archive: " + this.archiveFile.isFile(), null);
+                return;
+            }
+        } catch (IOException e) {
+            this.deleteArchive();
+            this.fail("CDS 训练失败: " + e.getMessage(), e);
+            return;
+        }
+        this.getLog().info("cds archive: " + this.archiveFile + " (" + this.archiveFile.length() / 1024 + " KB)");
+    }
+
+    /**
+     * 训练命令, 以相对路径启动 jar, 与 launcher 脚本的启动方式一致
+     *
+     * @return the list
+     * @since 2026.1.0
+     */
+    private @NotNull List<String> buildCommand() {
+        List<String> command = this.trainingOptions();
+        command.add("-Dloader.home=" + this.sourceDir.getAbsolutePath() + File.separator);
+        command.add("-Dloader.path=" + this.loaderPath());
+        command.addAll(split(this.jvmArguments));
+        command.add("-jar");
+        command.add(this.sourceJar);
+        this.addSlotArguments(command, this.sourceDir);
+        return command;
+    }
+
+    /**
+     * 展开目录的训练命令, 与 launcher 脚本一样在展开目录下以 {@code -cp launcher.jar} 启动 BootLauncher,
+     * 依赖已经在展开目录的 lib 下, 不需要 loader.path
+     *
+     * @return the list
+     * @since 2026.1.0
+     */
+    private @NotNull List<String> buildExplodedCommand() {
+        List<String> command = this.trainingOptions();
+        command.addAll(split(this.jvmArguments));
+        command.add("-cp");
+        command.add(ExplodedLauncher.LAUNCHER_JAR);
+        command.add(BootLauncher.class.getName());
+        this.addSlotArguments(command, this.explodedDirectory);
+        return command;
+    }
+
+    /**
+     * 训练进程的公共 JVM 参数
+     *
+     * @return the list
+     * @since 2026.1.0
+     */
+    private @NotNull List<String> trainingOptions() {
+        List<String> command = new ArrayList<>();
+        command.add(new File(new File(this.javaHome, "bin"), "java").getAbsolutePath());
+        command.add("-XX:ArchiveClassesAtExit=" + this.archiveFile.getAbsolutePath());
+        command.add("-Dloader.cds.training=true");
+        command.add("-Dloader.cds.trainingTimeout=" + this.timeout);
+        // Spring Framework 6.1+ 在容器刷新完成后直接退出
+        command.add("-Dspring.context.exit=onRefresh");
+        return command;
+    }
+
+    /**
+     * 与 launcher 脚本一致的 slot 参数和应用参数
+     *
+     * @param command  command
+     * @param slotRoot slot root
+     * @since 2026.1.0
+     */
+    private void addSlotArguments(@NotNull List<String> command, @NotNull File slotRoot) {
+        command.add("--slot.root=" + slotRoot.getAbsolutePath() + File.separator);
+        command.add("--slot.path=" + LauncherJarRepackageMojo.PATCH + "/");
+        command.add("--slot.path=" + LauncherJarRepackageMojo.PLUGIN + "/");
+        command.addAll(split(this.arguments));
+    }
+
+    /**
+     * 与部署时一样优先使用 lib 目录, 不存在时直接使用 maven 解析出的运行时依赖.
+     * 嵌套 jar 和 loader.path 中的 class 按名称和内容匹配, 依赖的位置不影响归档的使用
+     *
+     * @return the string
+     * @since 2026.1.0
+     */
+    private String loaderPath() {
+        if (new File(this.sourceDir, "lib").isDirectory()) {
+            return "lib/";
+        }
+        return this.project.getArtifacts().stream()
+            .map(Artifact::getFile)
+            .filter(file -> file != null && file.getName().endsWith(".jar"))
+            .map(File::getAbsolutePath)
+            .collect(Collectors.joining(","));
+    }
+
+    /**
+     * 运行训练进程, 输出重定向到 maven 日志
+     *
+     * @param command          command
+     * @param workingDirectory working directory
+     * @return the exit code
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    private int run(List<String> command, File workingDirectory) throws IOException {
+        Process process = new ProcessBuilder(command)
+            .directory(workingDirectory)
+            .redirectErrorStream(true)
+            .start();
+        Thread output = new Thread(() -> {
+            try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    this.getLog().info("[cds] " + line);
+                }
+            } catch (IOException ignored) {
+                // 进程已退出
+            }
+        }, "cds-archive-output");
+        output.setDaemon(true);
+        output.start();
+        try {
+            if (!process.waitFor(this.timeout + DUMP_GRACE_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                throw new IOException("训练进程在 " + (this.timeout + DUMP_GRACE_SECONDS) + "s 内没有退出");
+            }
+            output.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            process.destroyForcibly();
+            throw new IOException("训练被中断", e);
+        }
+        return process.exitValue();
+    }
+
+    /**
+     * Delete archive
+     *
+     * @since 2026.1.0
+     */
+    private void deleteArchive() {
+        if (this.archiveFile.exists() && !this.archiveFile.delete()) {
+            this.getLog().warn("无法删除 " + this.archiveFile);
+        }
+    }
+
+    /**
+     * 根据 failOnError 中断构建或输出警告
+     *
+     * @param message message
+     * @param cause   cause
+     * @throws MojoFailureException mojo failure exception
+     * @since 2026.1.0
+     */
+    private void fail(String message, Throwable cause) throws MojoFailureException {
+        if (this.failOnError) {
+            throw new MojoFailureException(message, cause);
+        }
+        this.getLog().warn(message);
+    }
+
+    /**
+     * Split
+     *
+     * @param value value
+     * @return the list
+     * @since 2026.1.0
+     */
+    private static List<String> split(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return new ArrayList<>();
+        }
+        return Arrays.asList(value.trim().split("\\s+"));
+    }
+
+}
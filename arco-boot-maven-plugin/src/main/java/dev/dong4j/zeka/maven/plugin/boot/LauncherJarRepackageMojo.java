@@ -1,20 +1,34 @@
 package dev.dong4j.zeka.maven.plugin.boot;
 
 import dev.dong4j.zeka.maven.plugin.boot.boost.BootSlotter;
+import dev.dong4j.zeka.maven.plugin.boot.boost.IOKit;
 import dev.dong4j.zeka.maven.plugin.boot.boost.Slotter;
 import dev.dong4j.zeka.maven.plugin.common.Plugins;
 import dev.dong4j.zeka.maven.plugin.common.ZekaMavenPluginAbstractMojo;
 import dev.dong4j.zeka.maven.plugin.common.enums.ModuleType;
 import dev.dong4j.zeka.maven.plugin.common.util.PluginUtils;
 import lombok.SneakyThrows;
+import org.apache.maven.artifact.Artifact;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * <p>Description: 将 jar 重新打包, 对 MANIFEST.MF 文件重写 Main-Class 和 Start-Class </p>
@@ -25,12 +39,21 @@ import java.io.IOException;
  * @date 2020.04.29 23:32
  * @since 1.0.0
  */
-@Mojo(name = "jar-repackage", defaultPhase = LifecyclePhase.PACKAGE, threadSafe = true)
+@Mojo(name = "jar-repackage",
+      defaultPhase = LifecyclePhase.PACKAGE,
+      threadSafe = true,
+      requiresDependencyResolution = ResolutionScope.RUNTIME)
 public class LauncherJarRepackageMojo extends ZekaMavenPluginAbstractMojo {
     /** PATCH */
     public static final String PATCH = "patch";
     /** PLUGIN */
     public static final String PLUGIN = "plugin";
+    /** 增量模式保存上次重新打包结果和指纹的目录, 位于 build 目录下 */
+    private static final String INCREMENTAL_DIRECTORY = "jar-repackage";
+    /** 原始 jar 和嵌入 classes 的指纹 */
+    private static final String INPUT_FINGERPRINT = "input";
+    /** 重新打包后 jar 的指纹 */
+    private static final String OUTPUT_FINGERPRINT = "output";
     /** 原本 JAR 所在文件夹 */
     @Parameter(property = "sourceDir", required = true, defaultValue = "${project.build.directory}")
     private File sourceDir;
@@ -40,6 +63,27 @@ public class LauncherJarRepackageMojo extends ZekaMavenPluginAbstractMojo {
     /** Set this to 'true' to bypass artifact deploy */
     @Parameter(property = Plugins.SKIP_JAR_REPACKAGE, defaultValue = Plugins.TURN_OFF_PLUGIN)
     private boolean skip;
+    /** 同时生成展开的目录结构 (BOOT-INF/classes + lib + classpath 索引), 用于已解压的容器部署 */
+    @Parameter(property = "jar.repackage.exploded", defaultValue = "false")
+    private boolean exploded;
+    /** 展开目录, 使用 java -cp ${explodedDirectory} dev.dong4j.zeka.maven.plugin.boot.boost.BootLauncher 启动 */
+    @Parameter(property = "jar.repackage.explodedDirectory", defaultValue = "${project.build.directory}/exploded")
+    private File explodedDirectory;
+    /** 同时生成按变化频率分层的展开目录 (dependencies, snapshot-dependencies, loader, application), 用于容器镜像分层缓存 */
+    @Parameter(property = "jar.repackage.layered", defaultValue = "false")
+    private boolean layered;
+    /** 分层目录, 由 Dockerfile-L 按层依次复制到镜像的部署目录 */
+    @Parameter(property = "jar.repackage.layersDirectory", defaultValue = "${project.build.directory}/layers")
+    private File layersDirectory;
+    /** 增量模式: 原始 jar, 嵌入的 boost/loader classes 和 outputTimestamp 都没有变化时直接使用上次重新打包的结果 */
+    @Parameter(property = "jar.repackage.incremental", defaultValue = "false")
+    private boolean incremental;
+    /**
+     * 可重现输出的时间, 与 maven-jar-plugin 一样使用 ISO 8601 格式 ({@code 2026-01-01T00:00:00Z}) 或秒数;
+     * 设置后所有条目使用该时间, 相同的输入生成完全相同的 jar 和展开目录. 为空或单个字符时不启用
+     */
+    @Parameter(defaultValue = "${project.build.outputTimestamp}")
+    private String outputTimestamp;
 
     /**
      * Execute *
@@ -64,16 +108,151 @@ public class LauncherJarRepackageMojo extends ZekaMavenPluginAbstractMojo {
         try {
             File src = new File(this.sourceDir, this.sourceJar);
             File originalFile = new File(this.sourceDir, this.sourceJar + ".original");
-            // 重命名
-            this.renameFile(src, originalFile);
-            File dest = new File(this.sourceDir, this.sourceJar);
-            Slotter slotter = new BootSlotter();
-            slotter.slot(originalFile, dest);
+            if (this.incremental) {
+                this.repackageIncrementally(src, originalFile);
+            } else {
+                // 重命名
+                this.renameFile(src, originalFile);
+                this.slot(originalFile, src);
+            }
+            if (this.exploded) {
+                this.explode(originalFile, this.explodedDirectory, false);
+            }
+            if (this.layered) {
+                this.explode(originalFile, this.layersDirectory, true);
+            }
         } catch (IOException e) {
             throw new MojoFailureException(e.getMessage(), e);
         }
     }
 
+    /**
+     * Slot
+     *
+     * @param src  src
+     * @param dest dest
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    private void slot(File src, File dest) throws IOException {
+        Slotter slotter = this.createSlotter();
+        slotter.slot(src, dest);
+    }
+
+    /**
+     * Create slotter
+     *
+     * @return the boot slotter
+     * @since 2026.1.0
+     */
+    private @NotNull BootSlotter createSlotter() {
+        return new BootSlotter(this.parseOutputTimestamp());
+    }
+
+    /**
+     * 解析 {@code project.build.outputTimestamp}, 规则与 maven-archiver 一致
+     *
+     * @return 毫秒, 不启用时返回 {@link BootSlotter#NO_OUTPUT_TIMESTAMP}
+     * @since 2026.1.0
+     */
+    private long parseOutputTimestamp() {
+        if (this.outputTimestamp == null || this.outputTimestamp.trim().length() < 2) {
+            return BootSlotter.NO_OUTPUT_TIMESTAMP;
+        }
+        String value = this.outputTimestamp.trim();
+        try {
+            if (value.chars().allMatch(Character::isDigit)) {
+                return TimeUnit.SECONDS.toMillis(Long.parseLong(value));
+            }
+            return OffsetDateTime.parse(value).toInstant().toEpochMilli();
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid project.build.outputTimestamp value '" + value + "'", e);
+        }
+    }
+
+    /**
+     * 增量重新打包, 指纹记录在 {@code ${project.build.directory}/jar-repackage/${sourceJar}.fingerprint}:
+     * <ul>
+     *     <li>maven-jar-plugin 认为 jar 已是最新而没有重新生成时, jar 已经是上次重新打包的结果, 直接跳过;
+     *     嵌入的 classes 或输出时间变化时从 {@code .original} 重新打包</li>
+     *     <li>原始 jar 的内容, 嵌入的 classes 和输出时间都没有变化时, 复制上次重新打包的结果</li>
+     *     <li>否则完整重新打包; 未变化的 class 和资源直接复制压缩后的数据, 只有变化的条目需要重新处理</li>
+     * </ul>
+     *
+     * @param src          src
+     * @param originalFile original file
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    private void repackageIncrementally(File src, File originalFile) throws IOException {
+        File stateDirectory = new File(this.buildDirectory, INCREMENTAL_DIRECTORY);
+        File cacheFile = new File(stateDirectory, this.sourceJar);
+        File stateFile = new File(stateDirectory, this.sourceJar + ".fingerprint");
+        long outputTimestamp = this.parseOutputTimestamp();
+        Properties state = new Properties();
+        if (stateFile.isFile() && cacheFile.isFile()) {
+            try (InputStream in = new FileInputStream(stateFile)) {
+                state.load(in);
+            }
+        }
+
+        String input;
+        if (originalFile.isFile() && RepackageFingerprint.entries(src).equals(state.getProperty(OUTPUT_FINGERPRINT))) {
+            input = RepackageFingerprint.input(originalFile, outputTimestamp);
+            if (input.equals(state.getProperty(INPUT_FINGERPRINT))) {
+                this.getLog().info(this.sourceJar + " is up to date, skip repackage");
+                return;
+            }
+            // jar 已经是上次的结果, 只有嵌入的 classes 或输出设置变化: 从原始 jar 重新打包
+        } else {
+            input = RepackageFingerprint.input(src, outputTimestamp);
+            this.renameFile(src, originalFile);
+            if (input.equals(state.getProperty(INPUT_FINGERPRINT))) {
+                Files.copy(cacheFile.toPath(), src.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                this.getLog().info(this.sourceJar + " is unchanged, reuse the previous repackaged jar");
+                return;
+            }
+        }
+
+        // 先删除旧的指纹, 中途失败时下次完整重新打包
+        IOKit.delete(stateFile);
+        this.slot(originalFile, src);
+        if (!stateDirectory.isDirectory() && !stateDirectory.mkdirs()) {
+            throw new IOException("Unable to create directory " + stateDirectory);
+        }
+        Files.copy(src.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        state.setProperty(INPUT_FINGERPRINT, input);
+        state.setProperty(OUTPUT_FINGERPRINT, RepackageFingerprint.entries(src));
+        try (OutputStream out = new FileOutputStream(stateFile)) {
+            state.store(out, "jar-repackage fingerprint");
+        }
+    }
+
+    /**
+     * 生成展开目录, 运行时依赖一起放入 lib; 分层目录中不包含 patch 和 plugin, 镜像中从部署目录复制
+     *
+     * @param originalFile original file
+     * @param directory    directory
+     * @param layered      layered
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    private void explode(File originalFile, File directory, boolean layered) throws IOException {
+        if (directory.exists() && !IOKit.delete(directory, true)) {
+            throw new IOException("Unable to delete " + directory);
+        }
+        List<File> libraries = this.project.getArtifacts().stream()
+            .map(Artifact::getFile)
+            .filter(file -> file != null && file.getName().endsWith(BootSlotter.JAR))
+            .collect(Collectors.toList());
+        this.createSlotter().explode(originalFile, directory, libraries, layered);
+        if (!layered) {
+            new File(directory, PATCH).mkdirs();
+            new File(directory, PLUGIN).mkdirs();
+        }
+        this.getLog().info((layered ? "layered " : "exploded ") + this.sourceJar + " to " + directory);
+    }
+
     /**
      * Build path and plugin dir
      *
@@ -0,0 +1,135 @@
+package dev.dong4j.zeka.maven.plugin.boot;
+
+import dev.dong4j.zeka.maven.plugin.boot.boost.BootSlotter;
+import dev.dong4j.zeka.maven.plugin.boot.boost.IOKit;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Enumeration;
+
+/**
+ * <p>Description: jar-repackage 增量模式使用的内容指纹.
+ * jar 的指纹包含 central directory 中的条目名, 压缩方式, CRC 和大小, 以及条目压缩后的数据 (按物理顺序), 不受修改时间影响;
+ * CRC 和大小相同但内容不同的条目同样会改变指纹. 读取的是压缩后的数据, 不需要解压;
+ * 嵌入的 boost/loader classes 使用 {@link IOKit#embedded(String)} 缓存中的 CRC, 大小和压缩后的数据, 插件升级后指纹随之变化. </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 19:10
+ * @since 2026.1.0
+ */
+@UtilityClass
+class RepackageFingerprint {
+
+    /**
+     * 原始 jar, 嵌入 classes 和影响输出的 {@link BootSlotter} 设置的组合指纹, 相同时重新打包的结果一定相同
+     *
+     * @param jar             原始 jar
+     * @param outputTimestamp 生效的输出时间, 见 {@link BootSlotter#BootSlotter(int, long)}
+     * @return the string
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    static @NotNull String input(File jar, long outputTimestamp) throws IOException {
+        MessageDigest digest = newDigest();
+        update(digest, "outputTimestamp:" + outputTimestamp);
+        updateEntries(digest, jar);
+        for (String ant : new String[] {BootSlotter.BOOST_CLASS_PATH, BootSlotter.LOADER_CLASS_PATH}) {
+            for (IOKit.EmbeddedEntry embedded : IOKit.embedded(ant)) {
+                update(digest, embedded.getName() + ':' + embedded.getCrc() + ':' + embedded.getSize());
+                digest.update(embedded.getRaw());
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * 只包含 jar 条目的指纹, 用于判断 jar 是否已经是上次重新打包的结果
+     *
+     * @param jar jar
+     * @return the string
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    static @NotNull String entries(File jar) throws IOException {
+        MessageDigest digest = newDigest();
+        updateEntries(digest, jar);
+        return toHex(digest.digest());
+    }
+
+    /**
+     * 每个条目的名称, 压缩方式, CRC, 大小和压缩后的数据
+     *
+     * @param digest digest
+     * @param jar    jar
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    private static void updateEntries(MessageDigest digest, File jar) throws IOException {
+        byte[] buffer = new byte[4096];
+        try (ZipFile zipFile = new ZipFile(jar)) {
+            Enumeration<ZipArchiveEntry> entries = zipFile.getEntriesInPhysicalOrder();
+            while (entries.hasMoreElements()) {
+                ZipArchiveEntry entry = entries.nextElement();
+                update(digest, entry.getName() + ':' + entry.getMethod() + ':' + entry.getCrc() + ':' + entry.getSize()
+                    + ':' + entry.getCompressedSize());
+                try (InputStream in = zipFile.getRawInputStream(entry)) {
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        digest.update(buffer, 0, read);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 每个值后追加分隔符, 避免不同的值拼接后相同
+     *
+     * @param digest digest
+     * @param value  value
+     * @since 2026.1.0
+     */
+    private static void update(@NotNull MessageDigest digest, @NotNull String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    /**
+     * New digest
+     *
+     * @return the message digest
+     * @since 2026.1.0
+     */
+    private static @NotNull MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * To hex
+     *
+     * @param bytes bytes
+     * @return the string
+     * @since 2026.1.0
+     */
+    private static @NotNull String toHex(byte @NotNull [] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+}
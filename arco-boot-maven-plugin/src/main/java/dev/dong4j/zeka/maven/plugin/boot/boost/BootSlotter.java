@@ -1,10 +1,14 @@
 package dev.dong4j.zeka.maven.plugin.boot.boost;
 
 import dev.dong4j.zeka.maven.plugin.boot.loader.jar.CustomJarFile;
+import dev.dong4j.zeka.maven.plugin.boot.loader.jar.JarEntriesIndex;
 import org.apache.commons.compress.archivers.jar.JarArchiveEntry;
 import org.apache.commons.compress.archivers.jar.JarArchiveInputStream;
 import org.apache.commons.compress.archivers.jar.JarArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipFile;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -14,14 +18,30 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TimeZone;
 import java.util.jar.Attributes;
 import java.util.jar.Manifest;
 import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 import java.util.zip.CRC32;
 import java.util.zip.CheckedOutputStream;
+import java.util.zip.ZipEntry;
 
 /**
  * 为可运行 jar 进行扩展, 主要是修改 main-class 和 start-class, 将原来的 class 字节码全部移动到 {@link BootSlotter#BOOT_INF_CLASSES} 目录下,
@@ -30,7 +50,8 @@ import java.util.zip.CheckedOutputStream;
  * formatter:off
  * .
  * ├── BOOT-INF
- * │    └── classes            # 部署包原来的 classes
+ * │    ├── classes            # 部署包原来的 classes
+ * │    └── index              # 嵌套 jar 的预计算索引 (jar 名.idx)
  * ├── META-INF              # 部署包打包为 jar 时生成的相关元数据
  * │    └── maven
  * └── dev/dong4j/zeka/maven/plugin
@@ -38,6 +59,8 @@ import java.util.zip.CheckedOutputStream;
  * ├── boost    # 代理启动类, 使用 java -jar 实际启动的 main class
  * └── loader   # classpath 处理, 启动类调用等
  * formatter:on
+ * 也可以通过 {@link BootSlotter#explode} 生成展开的目录结构, 由 {@link ExplodedLauncher} 启动;
+ * 分层展开时按变化频率拆分为 dependencies, snapshot-dependencies, loader, application 四个目录, 用于容器镜像分层缓存.
  *
  * @author dong4j
  * @version 1.0.0
@@ -69,14 +92,66 @@ public class BootSlotter extends FileSlotter implements Slotter {
     private static final String CLASS_PATH = "Class-Path";
     /** JAR */
     public static final String JAR = ".jar";
+    /** LIB */
+    private static final String LIB = "lib/";
     /** CLASS */
     public static final String CLASS = ".class";
+    /** 分层展开时记录每一层包含的路径, 格式与 spring boot 的 layers.idx 一致 */
+    public static final String LAYERS_INDEX = "BOOT-INF/layers.idx";
+    /** 第三方 release 依赖, 变化最少 */
+    public static final String DEPENDENCIES_LAYER = "dependencies";
+    /** SNAPSHOT 依赖 */
+    public static final String SNAPSHOT_DEPENDENCIES_LAYER = "snapshot-dependencies";
+    /** 嵌入的 boost/loader classes, 只随插件版本变化 */
+    public static final String LOADER_LAYER = "loader";
+    /** 应用 classes, 资源和索引, 变化最频繁 */
+    public static final String APPLICATION_LAYER = "application";
+    /** 所有分层, 按变化频率从低到高排列, 也是镜像中复制的顺序 */
+    public static final List<String> LAYERS = Collections.unmodifiableList(
+        Arrays.asList(DEPENDENCIES_LAYER, SNAPSHOT_DEPENDENCIES_LAYER, LOADER_LAYER, APPLICATION_LAYER));
+    /** SNAPSHOT jar 的文件名, 包括 -SNAPSHOT 和部署到仓库后带时间戳的版本 */
+    private static final Pattern SNAPSHOT_JAR = Pattern.compile(".*-(SNAPSHOT|\\d{8}\\.\\d{6}-\\d+)\\.jar");
     /** BOOT_LAUNCHER */
     private static final String BOOT_LAUNCHER = BootLauncher.class.getName();
+    /** 不指定输出时间, 条目使用原始时间, 新增的条目使用当前时间 */
+    public static final long NO_OUTPUT_TIMESTAMP = -1;
     /** 保存 main class 所有的目录 */
     private final Set<String> orginalMainClassdirectories = new HashSet<>(6);
-    /** 保存 main class 所在的目录 */
+    /** 保存 main class 所在的目录, 通过输入流处理时为 null */
     private String orginalMainClassPath;
+    /** 嵌套 jar 的索引, key 为索引条目名, 全部 jar 处理完成后统一写入 */
+    private final Map<String, IndexEntry> jarIndexes = new LinkedHashMap<>();
+    /** 正在处理的原始 jar, 用于读取 central directory 中嵌套 jar 的 CRC 和大小; 通过输入流处理时为 null */
+    private CustomJarFile sourceJarFile;
+    /** 已经处理过的嵌套 jar 条目名, 重复的条目不使用 central directory 中的信息 */
+    private final Set<String> transformedJars = new HashSet<>();
+    /** 可重现输出的时间 (毫秒), 为 {@link #NO_OUTPUT_TIMESTAMP} 时不启用 */
+    private final long outputTimestamp;
+    /** 写入 jar 的条目时间, zip 中保存的是本地时间, 按时区修正后各个时区生成的 jar 完全一致 */
+    private final long zipTimestamp;
+
+    /**
+     * Boot slotter
+     *
+     * @since 1.0.0
+     */
+    public BootSlotter() {
+        this(NO_OUTPUT_TIMESTAMP);
+    }
+
+    /**
+     * 可重现输出: 所有条目 (包括新增的目录, 索引和框架 classes) 使用 {@code outputTimestamp} 作为时间,
+     * 条目顺序只取决于原始 jar 和框架 classes 的名称, 相同的输入每次生成完全相同的 jar.
+     *
+     * @param outputTimestamp 输出时间 (毫秒), 一般来自 {@code project.build.outputTimestamp}, {@link #NO_OUTPUT_TIMESTAMP} 表示不启用
+     * @since 2026.1.0
+     */
+    public BootSlotter(long outputTimestamp) {
+        this.outputTimestamp = outputTimestamp;
+        this.zipTimestamp = outputTimestamp == NO_OUTPUT_TIMESTAMP
+            ? NO_OUTPUT_TIMESTAMP
+            : outputTimestamp - TimeZone.getDefault().getOffset(outputTimestamp);
+    }
 
     /**
      * 保存原始的 class 目录, 不迁移到新的 jar 中.
@@ -105,8 +180,13 @@ public class BootSlotter extends FileSlotter implements Slotter {
             this.orginalMainClassdirectories.add(directory);
         }
 
-        try (InputStream in = new FileInputStream(src); OutputStream out = new FileOutputStream(dest)) {
-            this.slot(in, out);
+        this.sourceJarFile = orginalJarFile;
+        try (ZipFile zipFile = new ZipFile(src); OutputStream out = new FileOutputStream(dest)) {
+            this.slot(new ZipFileEntrySource(zipFile), out);
+        } finally {
+            this.sourceJarFile = null;
+            this.transformedJars.clear();
+            orginalJarFile.close();
         }
     }
 
@@ -120,42 +200,293 @@ public class BootSlotter extends FileSlotter implements Slotter {
      */
     @Override
     public void slot(InputStream in, OutputStream out) throws IOException {
+        try (JarArchiveInputStream sourceStream = new JarArchiveInputStream(in)) {
+            this.slot(new StreamEntrySource(sourceStream), out);
+        }
+    }
 
-        try (JarArchiveInputStream sourceStream = new JarArchiveInputStream(in);
-             JarArchiveOutputStream targetStream = new JarArchiveOutputStream(out)) {
+    /**
+     * 按原始 jar 中的顺序处理所有条目, 原 jar 支持随机读取时 class 和资源文件直接复制压缩后的数据
+     *
+     * @param source 原始 jar 的条目
+     * @param out    out
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    private void slot(EntrySource source, OutputStream out) throws IOException {
+        try (JarArchiveOutputStream targetStream = new JarArchiveOutputStream(out)) {
 
             this.addEntryDir(targetStream, BOOT_INF_CLASSES, System.currentTimeMillis());
 
-            JarArchiveEntry entry;
+            ZipArchiveEntry entry;
+            ZipFile rawSource;
 
-            while ((entry = sourceStream.getNextJarEntry()) != null) {
+            while ((entry = source.next()) != null) {
                 if (entry.isDirectory()) {
                     // 如果缓存的目录与被迁移的目录一致, 则不迁移(解决迁移后的 jar 中存在空目录)
-                    if (this.orginalMainClassdirectories.contains(entry.getName()) || entry.getName().contains(this.orginalMainClassPath)) {
+                    if (this.orginalMainClassdirectories.contains(entry.getName()) || this.orginalMainClassPath != null && entry.getName().contains(this.orginalMainClassPath)) {
                         continue;
                     }
                     this.addEntryDir(targetStream, entry.getName(), entry.getTime());
                 } else if (entry.getName().endsWith(JAR)) {
-                    this.transformJarEntity(sourceStream, targetStream, entry);
+                    this.transformJarEntity(source.content(), targetStream, entry);
                 } else if (entry.getName().equals(MANIFEST_MF)) {
-                    this.transformManifestFile(sourceStream, targetStream, entry);
+                    this.transformManifestFile(source.content(), targetStream, entry);
+                } else if ((rawSource = source.rawSource(entry)) != null) {
+                    this.copyRaw(rawSource, targetStream, entry, this.targetName(entry));
+                    continue;
                 } else if (entry.getName().endsWith(CLASS)) {
-                    this.transformClass(sourceStream, targetStream, entry);
+                    this.transformClass(source.content(), targetStream, entry);
                 } else {
-                    this.transformOthers(sourceStream, targetStream, entry, entry.getName());
+                    this.transformOthers(source.content(), targetStream, entry, entry.getName());
                 }
                 targetStream.closeArchiveEntry();
             }
 
+            this.writeJarIndexes(targetStream);
+
             // 将 classpath 下的 dev.dong4j.zeka.maven.plugin.boot.boost 所有 classes 全部写入到 jar
-            IOKit.embed(BOOST_CLASS_PATH, targetStream);
+            IOKit.embed(BOOST_CLASS_PATH, targetStream, this.entryTime(System.currentTimeMillis()));
             // 将 classpath 下的 dev.dong4j.zeka.maven.plugin.boot.loader 所有 classes 全部写入到 jar
-            IOKit.embed(LOADER_CLASS_PATH, targetStream);
+            IOKit.embed(LOADER_CLASS_PATH, targetStream, this.entryTime(System.currentTimeMillis()));
 
             targetStream.finish();
         }
     }
 
+    /**
+     * class 写入 {@link BootSlotter#BOOT_INF_CLASSES}, 其他资源保持原来的路径
+     *
+     * @param entry entry
+     * @return the string
+     * @since 2026.1.0
+     */
+    private @NotNull String targetName(@NotNull ZipArchiveEntry entry) {
+        return entry.getName().endsWith(CLASS) ? BOOT_INF_CLASSES + entry.getName() : entry.getName();
+    }
+
+    /**
+     * 原样复制压缩后的数据, CRC 和大小沿用原 jar 中的值, 只修改条目名, 不再解压和重新压缩
+     *
+     * @param zipFile 原始 jar
+     * @param zos     zos
+     * @param entry   entry
+     * @param name    写入的条目名
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    private void copyRaw(ZipFile zipFile, JarArchiveOutputStream zos, @NotNull ZipArchiveEntry entry, String name)
+        throws IOException {
+        JarArchiveEntry target = new JarArchiveEntry(name);
+        target.setMethod(entry.getMethod());
+        target.setTime(this.entryTime(entry.getTime()));
+        target.setCrc(entry.getCrc());
+        target.setSize(entry.getSize());
+        target.setCompressedSize(entry.getCompressedSize());
+        try (InputStream raw = zipFile.getRawInputStream(entry)) {
+            zos.addRawArchiveEntry(target, raw);
+        }
+    }
+
+    /**
+     * 生成展开的目录结构, 供 {@link ExplodedLauncher} 使用 {@code java -cp <dest> BootLauncher} 启动, 不再需要嵌套 jar 的 URL Handler:
+     * class 写入 {@link BootSlotter#BOOT_INF_CLASSES}, 原 jar 中的 jar 和 {@code libraries} 写入 {@code lib/},
+     * 并按顺序写入 {@link ExplodedLauncher#CLASSPATH_INDEX}, 其他资源保持原来的路径.
+     * 启动器 class 同时写入 {@link ExplodedLauncher#LAUNCHER_JAR}, 使用动态 CDS 时以 {@code java -cp launcher.jar BootLauncher} 启动.
+     *
+     * @param src       原始 jar
+     * @param dest      展开目录, 需要是空目录
+     * @param libraries 需要一起放入 lib 的依赖
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    public void explode(File src, File dest, Collection<File> libraries) throws IOException {
+        this.explode(src, dest, libraries, false);
+    }
+
+    /**
+     * 生成展开的目录结构, {@code layered} 为 true 时每个文件写入 {@code dest/<layer>/} 下, 并在 application 层写入 {@link #LAYERS_INDEX}.
+     * 各层按 {@link #LAYERS} 的顺序复制到同一个目录后与不分层的展开目录完全一致.
+     *
+     * @param src       原始 jar
+     * @param dest      展开目录, 需要是空目录
+     * @param libraries 需要一起放入 lib 的依赖
+     * @param layered   是否分层
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    public void explode(File src, File dest, Collection<File> libraries, boolean layered) throws IOException {
+        Set<String> classpath = new LinkedHashSet<>();
+        Map<String, Set<String>> layers = null;
+        if (layered) {
+            layers = new LinkedHashMap<>();
+            for (String layer : LAYERS) {
+                layers.put(layer, new LinkedHashSet<>());
+                new File(dest, layer).mkdirs();
+            }
+        }
+        try (JarArchiveInputStream sourceStream = new JarArchiveInputStream(new FileInputStream(src))) {
+            JarArchiveEntry entry;
+            while ((entry = sourceStream.getNextJarEntry()) != null) {
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                String name = entry.getName();
+                File target;
+                if (name.endsWith(JAR)) {
+                    String libName = this.uniqueLibName(classpath, name.substring(name.lastIndexOf('/') + 1));
+                    classpath.add(libName);
+                    target = this.explodedFile(dest, layers, libName);
+                } else if (name.equals(MANIFEST_MF)) {
+                    target = this.explodedFile(dest, layers, name);
+                    try (OutputStream out = new FileOutputStream(target)) {
+                        this.createBootManifest(new Manifest(sourceStream)).write(out);
+                    }
+                    continue;
+                } else if (name.endsWith(CLASS)) {
+                    target = this.explodedFile(dest, layers, BOOT_INF_CLASSES + name);
+                } else {
+                    target = this.explodedFile(dest, layers, name);
+                }
+                IOKit.transfer(sourceStream, target);
+                if (entry.getTime() > 0) {
+                    target.setLastModified(entry.getTime());
+                }
+            }
+        }
+        for (File library : libraries) {
+            String libName = this.uniqueLibName(classpath, library.getName());
+            classpath.add(libName);
+            Files.copy(library.toPath(), this.explodedFile(dest, layers, libName).toPath(), StandardCopyOption.COPY_ATTRIBUTES);
+        }
+        this.explodedFile(dest, layers, BOOT_INF_CLASSES).mkdirs();
+        Files.write(this.explodedFile(dest, layers, ExplodedLauncher.CLASSPATH_INDEX).toPath(), classpath, StandardCharsets.UTF_8);
+
+        File loaderRoot = layered ? new File(dest, LOADER_LAYER) : dest;
+        IOKit.embed(BOOST_CLASS_PATH, loaderRoot);
+        IOKit.embed(LOADER_CLASS_PATH, loaderRoot);
+        this.writeLauncherJar(new File(loaderRoot, ExplodedLauncher.LAUNCHER_JAR));
+
+        if (layered) {
+            layers.get(LOADER_LAYER).add(BOOST_CLASS_ROOT_PATH + "/");
+            layers.get(LOADER_LAYER).add(ExplodedLauncher.LAUNCHER_JAR);
+            File layersIndex = this.explodedFile(dest, layers, LAYERS_INDEX);
+            Files.write(layersIndex.toPath(), this.createLayersIndex(layers), StandardCharsets.UTF_8);
+        }
+
+        if (this.outputTimestamp != NO_OUTPUT_TIMESTAMP) {
+            // 镜像层的摘要包含文件修改时间
+            try (Stream<Path> paths = Files.walk(dest.toPath())) {
+                paths.forEach(path -> path.toFile().setLastModified(this.outputTimestamp));
+            }
+        }
+    }
+
+    /**
+     * 将启动器 class 写入单独的 jar, 动态 CDS 的 classpath 中不能有非空目录
+     *
+     * @param file file
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    private void writeLauncherJar(@NotNull File file) throws IOException {
+        try (JarArchiveOutputStream zos = new JarArchiveOutputStream(new FileOutputStream(file))) {
+            long time = this.entryTime(System.currentTimeMillis());
+            IOKit.embed(BOOST_CLASS_PATH, zos, time);
+            IOKit.embed(LOADER_CLASS_PATH, zos, time);
+        }
+    }
+
+    /**
+     * 分层展开时文件写入所属层的目录, 并记录到该层的索引: lib 下的 jar 记录完整路径, 其他文件只记录第一级目录
+     *
+     * @param dest   dest
+     * @param layers 每一层的索引, 为 null 时不分层
+     * @param name   name
+     * @return the file
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    private @NotNull File explodedFile(@NotNull File dest, Map<String, Set<String>> layers, @NotNull String name) throws IOException {
+        if (layers == null) {
+            return this.explodedFile(dest, name);
+        }
+        String layer = layerOf(name);
+        int index = name.indexOf('/');
+        layers.get(layer).add(name.startsWith(LIB) || index == -1 ? name : name.substring(0, index + 1));
+        return this.explodedFile(new File(dest, layer), name);
+    }
+
+    /**
+     * 展开目录中的路径所属的层, 嵌入的 boost/loader classes 直接写入 {@link #LOADER_LAYER}
+     *
+     * @param name name
+     * @return the string
+     * @since 2026.1.0
+     */
+    static @NotNull String layerOf(@NotNull String name) {
+        if (!name.startsWith(LIB)) {
+            return APPLICATION_LAYER;
+        }
+        return SNAPSHOT_JAR.matcher(name).matches() ? SNAPSHOT_DEPENDENCIES_LAYER : DEPENDENCIES_LAYER;
+    }
+
+    /**
+     * 生成 layers.idx, 每一层一行 {@code - "layer":}, 层内每个路径一行 {@code   - "path"}
+     *
+     * @param layers layers
+     * @return the list
+     * @since 2026.1.0
+     */
+    private @NotNull List<String> createLayersIndex(@NotNull Map<String, Set<String>> layers) {
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, Set<String>> layer : layers.entrySet()) {
+            lines.add("- \"" + layer.getKey() + "\":");
+            for (String path : layer.getValue()) {
+                lines.add("  - \"" + path + "\"");
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * lib 下同名的 jar 追加序号
+     *
+     * @param classpath classpath
+     * @param fileName  file name
+     * @return the string
+     * @since 2026.1.0
+     */
+    private @NotNull String uniqueLibName(@NotNull Set<String> classpath, @NotNull String fileName) {
+        String libName = LIB + fileName;
+        String baseName = fileName.substring(0, fileName.length() - JAR.length());
+        for (int i = 1; classpath.contains(libName); i++) {
+            libName = LIB + baseName + "-" + i + JAR;
+        }
+        return libName;
+    }
+
+    /**
+     * 展开目录中的文件, 父目录不存在时创建, 拒绝写到展开目录之外的条目
+     *
+     * @param dest dest
+     * @param name name
+     * @return the file
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    private @NotNull File explodedFile(@NotNull File dest, String name) throws IOException {
+        File file = new File(dest, name);
+        if (!file.getCanonicalPath().startsWith(dest.getCanonicalPath() + File.separator)) {
+            throw new IOException("Entry is outside of the target directory: " + name);
+        }
+        File parent = file.getParentFile();
+        if (!parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Unable to create directory " + parent);
+        }
+        return file;
+    }
+
     /**
      * Transform others *
      *
@@ -166,7 +497,7 @@ public class BootSlotter extends FileSlotter implements Slotter {
      * @throws IOException io exception
      * @since 1.0.0
      */
-    private void transformOthers(JarArchiveInputStream zis, JarArchiveOutputStream zos, @NotNull JarArchiveEntry entry, String name)
+    private void transformOthers(InputStream zis, JarArchiveOutputStream zos, @NotNull ZipArchiveEntry entry, String name)
         throws IOException {
         this.addEntryDir(zos, name, entry.getTime());
         IOKit.transfer(zis, zos);
@@ -181,7 +512,7 @@ public class BootSlotter extends FileSlotter implements Slotter {
      * @throws IOException io exception
      * @since 1.0.0
      */
-    private void transformClass(JarArchiveInputStream zis, JarArchiveOutputStream zos, @NotNull JarArchiveEntry entry)
+    private void transformClass(InputStream zis, JarArchiveOutputStream zos, @NotNull ZipArchiveEntry entry)
         throws IOException {
         String name = entry.getName();
         this.transformOthers(zis, zos, entry, BOOT_INF_CLASSES + name);
@@ -196,9 +527,21 @@ public class BootSlotter extends FileSlotter implements Slotter {
      * @throws IOException io exception
      * @since 1.0.0
      */
-    private void transformManifestFile(JarArchiveInputStream zis, JarArchiveOutputStream zos, @NotNull JarArchiveEntry entry)
+    private void transformManifestFile(InputStream zis, JarArchiveOutputStream zos, @NotNull ZipArchiveEntry entry)
         throws IOException {
-        Manifest manifest = new Manifest(zis);
+        Manifest newManifest = this.createBootManifest(new Manifest(zis));
+        this.addEntryDir(zos, entry.getName(), entry.getTime());
+        newManifest.write(zos);
+    }
+
+    /**
+     * 删除 Class-Path 属性, 将 Main-Class 改为 {@link BootLauncher}, 原来的 Main-Class 作为 Start-Class
+     *
+     * @param manifest manifest
+     * @return the manifest
+     * @since 2026.1.0
+     */
+    private @NotNull Manifest createBootManifest(@NotNull Manifest manifest) {
         Attributes attributes = manifest.getMainAttributes();
 
         // 删除 Class-Path 属性
@@ -214,10 +557,8 @@ public class BootSlotter extends FileSlotter implements Slotter {
         newAttributes.putValue(START_CLASS_ATTRIBUTE, newAttributes.getValue(MAIN_CLASS_ATTRIBUTE));
         newAttributes.putValue(MAIN_CLASS_ATTRIBUTE, BOOT_LAUNCHER);
         newAttributes.putValue(BOOT_CLASSES_ATTRIBUTE, BOOT_INF_CLASSES);
-        newAttributes.putValue(BOOT_LIB_ATTRIBUTE, "lib/");
-
-        this.addEntryDir(zos, entry.getName(), entry.getTime());
-        newManifest.write(zos);
+        newAttributes.putValue(BOOT_LIB_ATTRIBUTE, LIB);
+        return newManifest;
     }
 
     /**
@@ -229,19 +570,111 @@ public class BootSlotter extends FileSlotter implements Slotter {
      * @throws IOException io exception
      * @since 1.0.0
      */
-    private void transformJarEntity(JarArchiveInputStream zis, @NotNull JarArchiveOutputStream zos, @NotNull JarArchiveEntry entry)
+    private void transformJarEntity(InputStream zis, @NotNull JarArchiveOutputStream zos, @NotNull ZipArchiveEntry entry)
         throws IOException {
-        ByteArrayOutputStream bos = new ByteArrayOutputStream();
-        CheckedOutputStream cos = new CheckedOutputStream(bos, new CRC32());
-        IOKit.transfer(zis, cos);
+        ZipEntry source = this.sourceJarFile != null && this.transformedJars.add(entry.getName())
+            ? this.sourceJarFile.getEntry(entry.getName())
+            : null;
+        if (source != null && source.getMethod() == ZipEntry.STORED && source.getCrc() != -1 && source.getSize() != -1) {
+            // 原 jar 的 central directory 中已经有 CRC 和大小, 直接流式写入, 索引从原 jar 中随机读取
+            zos.putArchiveEntry(this.createStoredEntry(entry, source.getSize(), source.getCrc()));
+            IOKit.transfer(zis, zos);
+            this.createJarIndex(entry, () -> JarEntriesIndex.create(this.sourceJarFile, source));
+            return;
+        }
+        // 压缩保存或无法确定 CRC 时先写入临时文件计算 CRC, 避免将整个 jar 读入内存
+        File temp = File.createTempFile("arco-slot-", JAR);
+        try {
+            CRC32 crc = new CRC32();
+            try (OutputStream out = new CheckedOutputStream(new FileOutputStream(temp), crc)) {
+                IOKit.transfer(zis, out);
+            }
+            zos.putArchiveEntry(this.createStoredEntry(entry, temp.length(), crc.getValue()));
+            try (InputStream in = new FileInputStream(temp)) {
+                IOKit.transfer(in, zos);
+            }
+            this.createJarIndex(entry, () -> JarEntriesIndex.create(temp, crc.getValue()));
+        } finally {
+            IOKit.delete(temp);
+        }
+    }
+
+    /**
+     * 嵌套 jar 必须以 STORED 方式写入, 启动时才能直接随机读取
+     *
+     * @param entry entry
+     * @param size  size
+     * @param crc   crc
+     * @return the jar archive entry
+     * @since 2026.1.0
+     */
+    private @NotNull JarArchiveEntry createStoredEntry(@NotNull ZipArchiveEntry entry, long size, long crc) {
         JarArchiveEntry jarArchiveEntry = new JarArchiveEntry(entry.getName());
         jarArchiveEntry.setMethod(JarArchiveEntry.STORED);
-        jarArchiveEntry.setSize(bos.size());
-        jarArchiveEntry.setTime(entry.getTime());
-        jarArchiveEntry.setCrc(cos.getChecksum().getValue());
-        zos.putArchiveEntry(jarArchiveEntry);
-        ByteArrayInputStream bis = new ByteArrayInputStream(bos.toByteArray());
-        IOKit.transfer(bis, zos);
+        jarArchiveEntry.setSize(size);
+        jarArchiveEntry.setTime(this.entryTime(entry.getTime()));
+        jarArchiveEntry.setCrc(crc);
+        return jarArchiveEntry;
+    }
+
+    /**
+     * 为嵌套 jar 生成 {@link JarEntriesIndex}, 启动时直接加载索引, 不再逐条解析 central directory.
+     * 同名 jar 只保留第一个索引, 其他 jar 启动时会因为 CRC 不匹配而回退到正常解析.
+     *
+     * @param entry   entry
+     * @param factory 生成索引内容
+     * @since 2026.1.0
+     */
+    private void createJarIndex(@NotNull ZipArchiveEntry entry, IndexFactory factory) {
+        String indexName = JarEntriesIndex.getIndexName(entry.getName());
+        if (this.jarIndexes.containsKey(indexName)) {
+            return;
+        }
+        try {
+            this.jarIndexes.put(indexName, new IndexEntry(factory.create(), entry.getTime()));
+        } catch (IOException | RuntimeException ignored) {
+            // 无法解析的 jar 不生成索引, 启动时按原方式处理
+        }
+    }
+
+    /**
+     * 将所有嵌套 jar 的索引以 STORED 方式写入 {@link JarEntriesIndex#INDEX_LOCATION} 目录, 便于启动时一次读取.
+     *
+     * @param zos zos
+     * @throws IOException io exception
+     * @since 2026.1.0
+     */
+    private void writeJarIndexes(@NotNull JarArchiveOutputStream zos) throws IOException {
+        if (this.jarIndexes.isEmpty()) {
+            return;
+        }
+        this.addEntryDir(zos, JarEntriesIndex.INDEX_LOCATION, System.currentTimeMillis());
+        zos.closeArchiveEntry();
+        for (Map.Entry<String, IndexEntry> index : this.jarIndexes.entrySet()) {
+            byte[] content = index.getValue().content;
+            CRC32 crc = new CRC32();
+            crc.update(content, 0, content.length);
+            JarArchiveEntry indexEntry = new JarArchiveEntry(index.getKey());
+            indexEntry.setMethod(JarArchiveEntry.STORED);
+            indexEntry.setSize(content.length);
+            indexEntry.setTime(this.entryTime(index.getValue().time));
+            indexEntry.setCrc(crc.getValue());
+            zos.putArchiveEntry(indexEntry);
+            zos.write(content);
+            zos.closeArchiveEntry();
+        }
+        this.jarIndexes.clear();
+    }
+
+    /**
+     * 启用可重现输出时所有条目使用同一个时间
+     *
+     * @param time 条目原来的时间
+     * @return the long
+     * @since 2026.1.0
+     */
+    private long entryTime(long time) {
+        return this.zipTimestamp == NO_OUTPUT_TIMESTAMP ? time : this.zipTimestamp;
     }
 
     /**
@@ -255,7 +688,234 @@ public class BootSlotter extends FileSlotter implements Slotter {
      */
     private void addEntryDir(@NotNull JarArchiveOutputStream zos, String entryName, long time) throws IOException {
         JarArchiveEntry bootClassDir = new JarArchiveEntry(entryName);
-        bootClassDir.setTime(time);
+        bootClassDir.setTime(this.entryTime(time));
         zos.putArchiveEntry(bootClassDir);
     }
+
+    /**
+     * 生成索引内容
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 17:20
+     * @since 2026.1.0
+     */
+    @FunctionalInterface
+    private interface IndexFactory {
+        /**
+         * Create
+         *
+         * @return the index content
+         * @throws IOException io exception
+         * @since 2026.1.0
+         */
+        byte[] create() throws IOException;
+    }
+
+    /**
+     * 原始 jar 中的条目, 按 jar 中的物理顺序返回
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 18:40
+     * @since 2026.1.0
+     */
+    private interface EntrySource {
+        /**
+         * 下一个条目, 没有更多条目时返回 null
+         *
+         * @return the zip archive entry
+         * @throws IOException io exception
+         * @since 2026.1.0
+         */
+        ZipArchiveEntry next() throws IOException;
+
+        /**
+         * 当前条目解压后的内容, 由 source 负责关闭
+         *
+         * @return the input stream
+         * @throws IOException io exception
+         * @since 2026.1.0
+         */
+        InputStream content() throws IOException;
+
+        /**
+         * 可以原样复制压缩后的数据时返回条目所在的 {@link ZipFile}, 通过它读取原始数据
+         *
+         * @param entry entry
+         * @return the zip file, 不能原样复制时为 null
+         * @since 2026.1.0
+         */
+        @Nullable
+        ZipFile rawSource(ZipArchiveEntry entry);
+    }
+
+    /**
+     * 通过输入流顺序读取, 只能解压后重新压缩
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 18:40
+     * @since 2026.1.0
+     */
+    private static class StreamEntrySource implements EntrySource {
+        /** Source stream */
+        private final JarArchiveInputStream sourceStream;
+
+        /**
+         * Stream entry source
+         *
+         * @param sourceStream source stream
+         * @since 2026.1.0
+         */
+        StreamEntrySource(JarArchiveInputStream sourceStream) {
+            this.sourceStream = sourceStream;
+        }
+
+        /**
+         * Next
+         *
+         * @return the zip archive entry
+         * @throws IOException io exception
+         * @since 2026.1.0
+         */
+        @Override
+        public ZipArchiveEntry next() throws IOException {
+            return this.sourceStream.getNextJarEntry();
+        }
+
+        /**
+         * Content
+         *
+         * @return the input stream
+         * @since 2026.1.0
+         */
+        @Override
+        public InputStream content() {
+            return this.sourceStream;
+        }
+
+        /**
+         * Raw source
+         *
+         * @param entry entry
+         * @return null, 输入流不能读取压缩后的数据
+         * @since 2026.1.0
+         */
+        @Override
+        public ZipFile rawSource(ZipArchiveEntry entry) {
+            return null;
+        }
+    }
+
+    /**
+     * 通过 {@link ZipFile} 随机读取, STORED 和 DEFLATED 条目可以直接复制压缩后的数据
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 18:40
+     * @since 2026.1.0
+     */
+    private static class ZipFileEntrySource implements EntrySource {
+        /** Zip file */
+        private final ZipFile zipFile;
+        /** Entries */
+        private final Enumeration<ZipArchiveEntry> entries;
+        /** Current */
+        private ZipArchiveEntry current;
+        /** Current stream */
+        private InputStream currentStream;
+
+        /**
+         * Zip file entry source
+         *
+         * @param zipFile zip file
+         * @since 2026.1.0
+         */
+        ZipFileEntrySource(@NotNull ZipFile zipFile) {
+            this.zipFile = zipFile;
+            this.entries = zipFile.getEntriesInPhysicalOrder();
+        }
+
+        /**
+         * Next
+         *
+         * @return the zip archive entry
+         * @throws IOException io exception
+         * @since 2026.1.0
+         */
+        @Override
+        public ZipArchiveEntry next() throws IOException {
+            if (this.currentStream != null) {
+                this.currentStream.close();
+                this.currentStream = null;
+            }
+            this.current = this.entries.hasMoreElements() ? this.entries.nextElement() : null;
+            return this.current;
+        }
+
+        /**
+         * Content
+         *
+         * @return the input stream
+         * @throws IOException io exception
+         * @since 2026.1.0
+         */
+        @Override
+        public InputStream content() throws IOException {
+            if (this.currentStream == null) {
+                this.currentStream = this.zipFile.getInputStream(this.current);
+            }
+            return this.currentStream;
+        }
+
+        /**
+         * STORED 和 DEFLATED 条目, 并且 CRC 和大小都已知时可以原样复制
+         *
+         * @param entry entry
+         * @return the zip file
+         * @since 2026.1.0
+         */
+        @Override
+        public ZipFile rawSource(@NotNull ZipArchiveEntry entry) {
+            boolean raw = (entry.getMethod() == ZipEntry.STORED || entry.getMethod() == ZipEntry.DEFLATED)
+                && this.zipFile.canReadEntryData(entry)
+                && entry.getCrc() != -1
+                && entry.getSize() != -1
+                && entry.getCompressedSize() != -1;
+            return raw ? this.zipFile : null;
+        }
+    }
+
+    /**
+     * 待写入的索引内容
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 11:40
+     * @since 2026.1.0
+     */
+    private static class IndexEntry {
+        /** Content */
+        private final byte[] content;
+        /** Time */
+        private final long time;
+
+        /**
+         * Index entry
+         *
+         * @param content content
+         * @param time    time
+         * @since 2026.1.0
+         */
+        IndexEntry(byte[] content, long time) {
+            this.content = content;
+            this.time = time;
+        }
+    }
 }
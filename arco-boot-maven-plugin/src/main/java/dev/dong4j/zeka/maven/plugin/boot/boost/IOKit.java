@@ -5,7 +5,9 @@ import dev.dong4j.zeka.maven.plugin.common.support.Resource;
 import lombok.experimental.UtilityClass;
 import org.apache.commons.compress.archivers.jar.JarArchiveEntry;
 import org.apache.commons.compress.archivers.jar.JarArchiveOutputStream;
+import org.jetbrains.annotations.NotNull;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
@@ -15,10 +17,20 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Enumeration;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 /**
  * I/O 工具
@@ -32,8 +44,11 @@ import java.util.Set;
 @UtilityClass
 public class IOKit {
 
+    /** 按类加载器缓存已经压缩好的框架 classes, key 为 ant 表达式; 类加载器回收后缓存一起回收 */
+    private static final Map<ClassLoader, Map<String, List<EmbeddedEntry>>> EMBEDDED_CACHE = new WeakHashMap<>();
+
     /**
-     * 往JAR包中嵌入框架的classes
+     * 往JAR包中嵌入框架的classes, 直接写入缓存中压缩好的数据
      *
      * @param ant ant
      * @param zos jar包输出流
@@ -41,26 +56,119 @@ public class IOKit {
      * @since 1.0.0
      */
     public static void embed(String ant, JarArchiveOutputStream zos) throws IOException {
+        embed(ant, zos, System.currentTimeMillis());
+    }
+
+    /**
+     * 往JAR包中嵌入框架的classes, 所有条目使用指定的时间
+     *
+     * @param ant  ant
+     * @param zos  jar包输出流
+     * @param time 条目时间
+     * @throws IOException I/O 异常
+     * @since 2026.1.0
+     */
+    public static void embed(String ant, JarArchiveOutputStream zos, long time) throws IOException {
+        for (EmbeddedEntry embedded : embedded(ant)) {
+            JarArchiveEntry xJarEntry = new JarArchiveEntry(embedded.getName());
+            xJarEntry.setTime(time);
+            xJarEntry.setMethod(embedded.isDirectory() ? JarArchiveEntry.STORED : JarArchiveEntry.DEFLATED);
+            xJarEntry.setCrc(embedded.getCrc());
+            xJarEntry.setSize(embedded.getSize());
+            xJarEntry.setCompressedSize(embedded.raw.length);
+            zos.addRawArchiveEntry(xJarEntry, new ByteArrayInputStream(embedded.raw));
+        }
+    }
+
+    /**
+     * 往目录中写入框架的classes
+     *
+     * @param ant ant
+     * @param dir 目标目录
+     * @throws IOException I/O 异常
+     * @since 2026.1.0
+     */
+    public static void embed(String ant, File dir) throws IOException {
+        for (EmbeddedEntry embedded : embedded(ant)) {
+            if (embedded.isDirectory()) {
+                continue;
+            }
+            File file = new File(dir, embedded.getName());
+            File parent = file.getParentFile();
+            if (!parent.isDirectory() && !parent.mkdirs()) {
+                throw new IOException("Unable to create directory " + parent);
+            }
+            Inflater inflater = new Inflater(true);
+            try (InputStream ris = new InflaterInputStream(new ByteArrayInputStream(embedded.raw), inflater)) {
+                transfer(ris, file);
+            } finally {
+                inflater.end();
+            }
+        }
+    }
+
+    /**
+     * 当前线程上下文类加载器中匹配 ant 表达式的框架 classes (包含目录条目), 同一个类加载器只扫描和压缩一次.
+     * reactor 中多个模块重新打包时直接复用, 不再重复遍历类加载器和读取 class.
+     *
+     * @param ant ant
+     * @return the list
+     * @throws IOException I/O 异常
+     * @since 2026.1.0
+     */
+    public static List<EmbeddedEntry> embedded(String ant) throws IOException {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = ClassLoader.getSystemClassLoader();
+        }
+        synchronized (EMBEDDED_CACHE) {
+            Map<String, List<EmbeddedEntry>> entries = EMBEDDED_CACHE.computeIfAbsent(classLoader, key -> new HashMap<>(4));
+            List<EmbeddedEntry> embedded = entries.get(ant);
+            if (embedded == null) {
+                embedded = Collections.unmodifiableList(load(classLoader, ant));
+                entries.put(ant, embedded);
+            }
+            return embedded;
+        }
+    }
+
+    /**
+     * 读取并压缩匹配的资源, 按名称排序保证输出稳定 (目录中的资源顺序取决于文件系统), 每个目录在其第一个资源之前生成一个目录条目
+     *
+     * @param classLoader class loader
+     * @param ant         ant
+     * @return the list
+     * @throws IOException I/O 异常
+     * @since 2026.1.0
+     */
+    private static @NotNull List<EmbeddedEntry> load(ClassLoader classLoader, String ant) throws IOException {
+        List<EmbeddedEntry> embedded = new ArrayList<>();
         Set<String> directories = new HashSet<>();
-        Enumeration<Resource> resources = Loaders.ant().load(ant);
-        while (resources.hasMoreElements()) {
-            Resource resource = resources.nextElement();
+        List<Resource> resources = Collections.list(Loaders.ant(classLoader).load(ant));
+        resources.sort(Comparator.comparing(Resource::getName));
+        for (Resource resource : resources) {
             String name = resource.getName();
             String directory = name.substring(0, name.lastIndexOf('/') + 1);
             if (directories.add(directory)) {
-                JarArchiveEntry xDirEntry = new JarArchiveEntry(directory);
-                xDirEntry.setTime(System.currentTimeMillis());
-                zos.putArchiveEntry(xDirEntry);
-                zos.closeArchiveEntry();
+                embedded.add(new EmbeddedEntry(directory, 0, 0, new byte[0]));
             }
-            JarArchiveEntry xJarEntry = new JarArchiveEntry(name);
-            xJarEntry.setTime(System.currentTimeMillis());
-            zos.putArchiveEntry(xJarEntry);
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
             try (InputStream ris = resource.getInputStream()) {
-                transfer(ris, zos);
+                transfer(ris, content);
+            }
+            byte[] bytes = content.toByteArray();
+            CRC32 crc = new CRC32();
+            crc.update(bytes, 0, bytes.length);
+            ByteArrayOutputStream raw = new ByteArrayOutputStream(bytes.length);
+            Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+            try (DeflaterOutputStream out = new DeflaterOutputStream(raw, deflater)) {
+                out.write(bytes);
+            } finally {
+                deflater.end();
             }
-            zos.closeArchiveEntry();
+            embedded.add(new EmbeddedEntry(name, crc.getValue(), bytes.length, raw.toByteArray()));
         }
+        return embedded;
     }
 
     /**
@@ -267,4 +375,90 @@ public class IOKit {
     public static String normalize(String path) {
         return path.replaceAll("[/\\\\]+", "/");
     }
+
+    /**
+     * 缓存的框架 class, 保存压缩后的原始数据
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17 19:40
+     * @since 2026.1.0
+     */
+    public static final class EmbeddedEntry {
+        /** Name */
+        private final String name;
+        /** Crc */
+        private final long crc;
+        /** Size */
+        private final long size;
+        /** DEFLATED 原始数据, 目录条目为空 */
+        private final byte[] raw;
+
+        /**
+         * Embedded entry
+         *
+         * @param name name
+         * @param crc  crc
+         * @param size size
+         * @param raw  raw
+         * @since 2026.1.0
+         */
+        EmbeddedEntry(String name, long crc, long size, byte[] raw) {
+            this.name = name;
+            this.crc = crc;
+            this.size = size;
+            this.raw = raw;
+        }
+
+        /**
+         * Gets name *
+         *
+         * @return the name
+         * @since 2026.1.0
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * Gets crc *
+         *
+         * @return the crc
+         * @since 2026.1.0
+         */
+        public long getCrc() {
+            return this.crc;
+        }
+
+        /**
+         * Gets size *
+         *
+         * @return the size
+         * @since 2026.1.0
+         */
+        public long getSize() {
+            return this.size;
+        }
+
+        /**
+         * 压缩后的数据 (副本)
+         *
+         * @return the byte [ ]
+         * @since 2026.1.0
+         */
+        public byte[] getRaw() {
+            return this.raw.clone();
+        }
+
+        /**
+         * Is directory
+         *
+         * @return the boolean
+         * @since 2026.1.0
+         */
+        public boolean isDirectory() {
+            return this.name.endsWith("/");
+        }
+    }
 }
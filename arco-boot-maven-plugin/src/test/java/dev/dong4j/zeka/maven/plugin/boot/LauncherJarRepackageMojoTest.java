@@ -0,0 +1,180 @@
+package dev.dong4j.zeka.maven.plugin.boot;
+
+import dev.dong4j.zeka.maven.plugin.boot.boost.BootLauncher;
+import dev.dong4j.zeka.maven.plugin.boot.boost.BootSlotter;
+import dev.dong4j.zeka.maven.plugin.boot.boost.IOKit;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.jar.JarFile;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 23:40
+ * @since 2026.1.0
+ */
+class LauncherJarRepackageMojoTest {
+
+    private static final long OLD = System.currentTimeMillis() - 10L * 24 * 60 * 60 * 1000;
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void incrementalRepackageSkipsCopiesOrRepackages() throws Exception {
+        File src = new File(this.tempDir, "app.jar");
+        File original = new File(this.tempDir, "app.jar.original");
+        File cache = new File(this.tempDir, "jar-repackage/app.jar");
+        File state = new File(this.tempDir, "jar-repackage/app.jar.fingerprint");
+        LauncherJarRepackageMojo mojo = this.createMojo();
+
+        // 第一次完整重新打包
+        createJar(src, "first", "first");
+        byte[] sourceBytes = Files.readAllBytes(src.toPath());
+        this.repackage(mojo, src, original);
+        Assertions.assertArrayEquals(sourceBytes, Files.readAllBytes(original.toPath()));
+        Assertions.assertEquals(BootLauncher.class.getName(), mainClass(src));
+        Assertions.assertArrayEquals(Files.readAllBytes(src.toPath()), Files.readAllBytes(cache.toPath()));
+        Assertions.assertTrue(state.isFile());
+
+        // jar 没有重新生成, 已经是上次的结果: 跳过
+        src.setLastModified(OLD);
+        state.setLastModified(OLD);
+        this.repackage(mojo, src, original);
+        Assertions.assertEquals(OLD / 1000, src.lastModified() / 1000);
+        Assertions.assertArrayEquals(sourceBytes, Files.readAllBytes(original.toPath()));
+
+        // 重新生成了内容相同的 jar: 复制上次的结果, 指纹不变
+        Files.copy(original.toPath(), src.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        this.repackage(mojo, src, original);
+        Assertions.assertArrayEquals(Files.readAllBytes(cache.toPath()), Files.readAllBytes(src.toPath()));
+        Assertions.assertEquals(OLD / 1000, state.lastModified() / 1000);
+
+        // 内容变化: 完整重新打包
+        createJar(src, "second", "second");
+        this.repackage(mojo, src, original);
+        Assertions.assertEquals(BootLauncher.class.getName(), mainClass(src));
+        Assertions.assertTrue(state.lastModified() > OLD);
+        Assertions.assertArrayEquals(Files.readAllBytes(src.toPath()), Files.readAllBytes(cache.toPath()));
+    }
+
+    @Test
+    void sameCrcAndSizeWithDifferentContentRepackages() throws Exception {
+        File src = new File(this.tempDir, "app.jar");
+        File original = new File(this.tempDir, "app.jar.original");
+        File state = new File(this.tempDir, "jar-repackage/app.jar.fingerprint");
+        LauncherJarRepackageMojo mojo = this.createMojo();
+
+        createJar(src, "aaaa", "aaaa");
+        String before = RepackageFingerprint.input(src, BootSlotter.NO_OUTPUT_TIMESTAMP);
+        this.repackage(mojo, src, original);
+        state.setLastModified(OLD);
+
+        // central directory 中的 CRC 和大小与上次相同, 只有内容不同
+        createJar(src, "bbbb", "aaaa");
+        Assertions.assertNotEquals(before, RepackageFingerprint.input(src, BootSlotter.NO_OUTPUT_TIMESTAMP));
+        this.repackage(mojo, src, original);
+        Assertions.assertTrue(state.lastModified() > OLD);
+        Assertions.assertArrayEquals("bbbb".getBytes(StandardCharsets.UTF_8), content(original, "sample/App.class"));
+    }
+
+    @Test
+    void changedOutputTimestampRepackages() throws Exception {
+        File src = new File(this.tempDir, "app.jar");
+        File original = new File(this.tempDir, "app.jar.original");
+        File state = new File(this.tempDir, "jar-repackage/app.jar.fingerprint");
+        LauncherJarRepackageMojo mojo = this.createMojo();
+
+        createJar(src, "first", "first");
+        this.repackage(mojo, src, original);
+        byte[] first = Files.readAllBytes(src.toPath());
+        byte[] sourceBytes = Files.readAllBytes(original.toPath());
+        state.setLastModified(OLD);
+
+        // jar 没有重新生成, 只修改了 outputTimestamp: 从原始 jar 重新打包
+        this.setField(mojo, "outputTimestamp", "2026-01-01T00:00:00Z");
+        this.repackage(mojo, src, original);
+        Assertions.assertTrue(state.lastModified() > OLD);
+        Assertions.assertFalse(Arrays.equals(first, Files.readAllBytes(src.toPath())));
+        Assertions.assertArrayEquals(sourceBytes, Files.readAllBytes(original.toPath()));
+        Assertions.assertEquals(BootLauncher.class.getName(), mainClass(src));
+    }
+
+    private LauncherJarRepackageMojo createMojo() throws ReflectiveOperationException {
+        LauncherJarRepackageMojo mojo = new LauncherJarRepackageMojo();
+        mojo.buildDirectory = this.tempDir.getAbsolutePath();
+        this.setField(mojo, "sourceJar", "app.jar");
+        return mojo;
+    }
+
+    private void setField(LauncherJarRepackageMojo mojo, String name, Object value) throws ReflectiveOperationException {
+        Field field = LauncherJarRepackageMojo.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(mojo, value);
+    }
+
+    private void repackage(LauncherJarRepackageMojo mojo, File src, File original) throws Exception {
+        Method method = LauncherJarRepackageMojo.class.getDeclaredMethod("repackageIncrementally", File.class, File.class);
+        method.setAccessible(true);
+        try {
+            method.invoke(mojo, src, original);
+        } catch (InvocationTargetException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+
+    // 只有一个 STORED class 的 jar, central directory 中记录 crcOf 的 CRC
+    private static void createJar(File file, String content, String crcOf) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        CRC32 crc = new CRC32();
+        crc.update(crcOf.getBytes(StandardCharsets.UTF_8));
+        try (ZipArchiveOutputStream out = new ZipArchiveOutputStream(file)) {
+            out.putArchiveEntry(new ZipArchiveEntry(JarFile.MANIFEST_NAME));
+            out.write("Manifest-Version: 1.0\r\nMain-Class: sample.App\r\n\r\n".getBytes(StandardCharsets.UTF_8));
+            out.closeArchiveEntry();
+            ZipArchiveEntry entry = new ZipArchiveEntry("sample/App.class");
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(bytes.length);
+            entry.setCompressedSize(bytes.length);
+            entry.setCrc(crc.getValue());
+            out.addRawArchiveEntry(entry, new ByteArrayInputStream(bytes));
+        }
+    }
+
+    private static String mainClass(File jar) throws IOException {
+        try (JarFile jarFile = new JarFile(jar)) {
+            return jarFile.getManifest().getMainAttributes().getValue("Main-Class");
+        }
+    }
+
+    private static byte[] content(File jar, String name) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipFile zipFile = new ZipFile(jar); InputStream in = zipFile.getRawInputStream(zipFile.getEntry(name))) {
+            IOKit.transfer(in, bytes);
+        }
+        return bytes.toByteArray();
+    }
+
+}
@@ -1,13 +1,38 @@
 package dev.dong4j.zeka.maven.plugin.boot.boost;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.TimeZone;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
 import java.util.regex.Matcher;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
 
 /**
  * <p>Description:  </p>
@@ -21,6 +46,9 @@ import java.util.regex.Matcher;
 @Slf4j
 class BootSlotterTest {
 
+    @TempDir
+    File tempDir;
+
     /**
      * Test 1
      *
@@ -53,4 +81,271 @@ class BootSlotterTest {
         Assertions.assertEquals("dev/dong4j/zeka/maven/plugin/boot", orginalMainClass2.replace(".",
             Matcher.quoteReplacement(File.separator)));
     }
+
+    @Test
+    void streamSlotMatchesFileSlot() throws IOException {
+        // 从文件处理时直接复制压缩数据, 从输入流处理时重新压缩, 条目顺序和内容必须一致
+        File src = new File(this.tempDir, "app.jar");
+        try (ZipArchiveOutputStream out = new ZipArchiveOutputStream(src)) {
+            out.putArchiveEntry(new ZipArchiveEntry("META-INF/MANIFEST.MF"));
+            out.write("Manifest-Version: 1.0\r\nMain-Class: sample.App\r\n\r\n".getBytes());
+            out.closeArchiveEntry();
+            for (int p = 0; p < 10; p++) {
+                out.putArchiveEntry(new ZipArchiveEntry("sample/p" + p + "/"));
+                out.closeArchiveEntry();
+                for (int i = 0; i < 50; i++) {
+                    out.putArchiveEntry(new ZipArchiveEntry("sample/p" + p + "/Type" + i + ".class"));
+                    out.write(("content-" + p + "-" + i).getBytes());
+                    out.closeArchiveEntry();
+                }
+                out.putArchiveEntry(new ZipArchiveEntry("static/p" + p + ".txt"));
+                out.write(("resource-" + p).getBytes());
+                out.closeArchiveEntry();
+            }
+            out.putArchiveEntry(new ZipArchiveEntry("sample/App.class"));
+            out.closeArchiveEntry();
+        }
+        Assertions.assertEquals(slotFile(src), slotStream(src));
+    }
+
+    @Test
+    void streamSlotWritesEntriesOfUnknownSize() throws IOException {
+        // 写入流时使用 data descriptor, 从输入流读取时大小未知
+        File src = new File(this.tempDir, "app.jar");
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().putValue("Manifest-Version", "1.0");
+        manifest.getMainAttributes().putValue("Main-Class", "sample.App");
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(src), manifest)) {
+            for (int i = 0; i < 50; i++) {
+                out.putNextEntry(new JarEntry("sample/Type" + i + ".class"));
+                out.write(("content-" + i).getBytes());
+                out.closeEntry();
+            }
+            out.putNextEntry(new JarEntry("sample/App.class"));
+            out.closeEntry();
+        }
+        Assertions.assertEquals(slotFile(src), slotStream(src));
+    }
+
+    @Test
+    void classEntriesKeepOriginalCompressedData() throws IOException {
+        File src = new File(this.tempDir, "app.jar");
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().putValue("Manifest-Version", "1.0");
+        manifest.getMainAttributes().putValue("Main-Class", "sample.App");
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(src), manifest)) {
+            // 不压缩的 DEFLATED 数据, 重新压缩后大小一定不同
+            out.setLevel(Deflater.NO_COMPRESSION);
+            out.putNextEntry(new JarEntry("sample/App.class"));
+            out.write(new byte[4096]);
+            out.closeEntry();
+        }
+        File dest = new File(this.tempDir, "dest.jar");
+        new BootSlotter().slot(src, dest);
+
+        try (ZipFile source = new ZipFile(src); ZipFile target = new ZipFile(dest)) {
+            ZipEntry original = source.getEntry("sample/App.class");
+            ZipEntry copied = target.getEntry(BootSlotter.BOOT_INF_CLASSES + "sample/App.class");
+            Assertions.assertEquals(original.getCompressedSize(), copied.getCompressedSize());
+            Assertions.assertEquals(original.getCrc(), copied.getCrc());
+        }
+    }
+
+    @Test
+    void nestedJarsAreStoredWithOneIndexPerName() throws IOException {
+        byte[] x = jar("x/A.class", "x-content");
+        byte[] y = jar("y/B.class", "y-content");
+        byte[] otherX = jar("other/C.class", "other-content");
+        File src = new File(this.tempDir, "app.jar");
+        try (ZipArchiveOutputStream out = new ZipArchiveOutputStream(src)) {
+            out.putArchiveEntry(new ZipArchiveEntry("META-INF/MANIFEST.MF"));
+            out.write("Manifest-Version: 1.0\r\nMain-Class: sample.App\r\n\r\n".getBytes());
+            out.closeArchiveEntry();
+            ZipArchiveEntry stored = new ZipArchiveEntry("lib/x.jar");
+            stored.setMethod(ZipEntry.STORED);
+            stored.setSize(x.length);
+            stored.setCrc(crc(x));
+            out.putArchiveEntry(stored);
+            out.write(x);
+            out.closeArchiveEntry();
+            out.putArchiveEntry(new ZipArchiveEntry("lib/y.jar"));
+            out.write(y);
+            out.closeArchiveEntry();
+            // 与 lib/x.jar 同名, 不再生成索引
+            out.putArchiveEntry(new ZipArchiveEntry("other/x.jar"));
+            out.write(otherX);
+            out.closeArchiveEntry();
+        }
+        File dest = new File(this.tempDir, "dest.jar");
+        new BootSlotter().slot(src, dest);
+
+        try (ZipFile target = new ZipFile(dest)) {
+            assertStoredJar(target, "lib/x.jar", x, "x/A.class", "x-content");
+            assertStoredJar(target, "lib/y.jar", y, "y/B.class", "y-content");
+            assertStoredJar(target, "other/x.jar", otherX, "other/C.class", "other-content");
+            List<String> indexes = new ArrayList<>();
+            for (ZipEntry entry : Collections.list(target.entries())) {
+                if (entry.getName().endsWith(".idx")) {
+                    indexes.add(entry.getName());
+                }
+            }
+            Assertions.assertEquals(Arrays.asList("BOOT-INF/index/x.jar.idx", "BOOT-INF/index/y.jar.idx"), indexes);
+        }
+    }
+
+    @Test
+    void outputTimestampMakesOutputReproducible() throws IOException {
+        File src = new File(this.tempDir, "app.jar");
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().putValue("Manifest-Version", "1.0");
+        manifest.getMainAttributes().putValue("Main-Class", "sample.App");
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(src), manifest)) {
+            out.putNextEntry(new JarEntry("sample/App.class"));
+            out.write("app".getBytes());
+            out.closeEntry();
+        }
+        File first = new File(this.tempDir, "first.jar");
+        File second = new File(this.tempDir, "second.jar");
+        TimeZone timeZone = TimeZone.getDefault();
+        try {
+            // zip 中保存的是本地时间, 不同时区生成的 jar 也必须一致
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            new BootSlotter(1767225600000L).slot(src, first);
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Shanghai"));
+            new BootSlotter(1767225600000L).slot(src, second);
+        } finally {
+            TimeZone.setDefault(timeZone);
+        }
+
+        Assertions.assertArrayEquals(Files.readAllBytes(first.toPath()), Files.readAllBytes(second.toPath()));
+    }
+
+    @Test
+    void layeredExplodeSplitsSameFilesIntoLayers() throws IOException {
+        File src = new File(this.tempDir, "app.jar");
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().putValue("Manifest-Version", "1.0");
+        manifest.getMainAttributes().putValue("Main-Class", "sample.App");
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(src), manifest)) {
+            out.putNextEntry(new JarEntry("sample/App.class"));
+            out.write("app".getBytes());
+            out.closeEntry();
+            out.putNextEntry(new JarEntry("static/index.html"));
+            out.write("index".getBytes());
+            out.closeEntry();
+        }
+        List<File> libraries = new ArrayList<>();
+        for (String name : new String[] {"release-1.0.jar", "snapshot-1.0-SNAPSHOT.jar", "deployed-1.0-20260101.120000-3.jar"}) {
+            File library = new File(this.tempDir, name);
+            Files.write(library.toPath(), name.getBytes());
+            libraries.add(library);
+        }
+        File exploded = new File(this.tempDir, "exploded");
+        File layers = new File(this.tempDir, "layers");
+        new BootSlotter().explode(src, exploded, libraries);
+        new BootSlotter().explode(src, layers, libraries, true);
+
+        Set<String> merged = new HashSet<>();
+        for (String layer : BootSlotter.LAYERS) {
+            merged.addAll(list(new File(layers, layer)));
+        }
+        Assertions.assertTrue(merged.remove(BootSlotter.LAYERS_INDEX));
+        Assertions.assertEquals(new HashSet<>(list(exploded)), merged);
+        Assertions.assertEquals(Collections.singletonList("lib/release-1.0.jar"), list(new File(layers, BootSlotter.DEPENDENCIES_LAYER)));
+        Assertions.assertTrue(new File(layers, BootSlotter.SNAPSHOT_DEPENDENCIES_LAYER + "/lib/deployed-1.0-20260101.120000-3.jar").isFile());
+        Assertions.assertTrue(new File(layers, BootSlotter.APPLICATION_LAYER + "/" + BootSlotter.BOOT_INF_CLASSES + "sample/App.class").isFile());
+        Assertions.assertTrue(new File(exploded, ExplodedLauncher.LAUNCHER_JAR).isFile());
+
+        List<String> index = Files.readAllLines(new File(layers, BootSlotter.APPLICATION_LAYER + "/" + BootSlotter.LAYERS_INDEX).toPath());
+        Assertions.assertEquals(Arrays.asList(
+            "- \"dependencies\":",
+            "  - \"lib/release-1.0.jar\"",
+            "- \"snapshot-dependencies\":",
+            "  - \"lib/snapshot-1.0-SNAPSHOT.jar\"",
+            "  - \"lib/deployed-1.0-20260101.120000-3.jar\"",
+            "- \"loader\":",
+            "  - \"" + BootSlotter.BOOST_CLASS_ROOT_PATH + "/\"",
+            "  - \"" + ExplodedLauncher.LAUNCHER_JAR + "\"",
+            "- \"application\":",
+            "  - \"META-INF/\"",
+            "  - \"BOOT-INF/\"",
+            "  - \"static/\""), index);
+    }
+
+    private static void assertStoredJar(ZipFile target, String name, byte[] expected, String innerName, String innerContent)
+        throws IOException {
+        ZipEntry entry = target.getEntry(name);
+        Assertions.assertEquals(ZipEntry.STORED, entry.getMethod());
+        Assertions.assertEquals(expected.length, entry.getSize());
+        Assertions.assertEquals(crc(expected), entry.getCrc());
+        try (ZipInputStream in = new ZipInputStream(target.getInputStream(entry))) {
+            Assertions.assertEquals(innerName, in.getNextEntry().getName());
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            IOKit.transfer(in, content);
+            Assertions.assertEquals(innerContent, content.toString("UTF-8"));
+        }
+    }
+
+    private static byte[] jar(String name, String content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream out = new ZipOutputStream(bytes)) {
+            out.putNextEntry(new ZipEntry(name));
+            out.write(content.getBytes("UTF-8"));
+            out.closeEntry();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static long crc(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        return crc.getValue();
+    }
+
+    private static List<String> list(File dir) throws IOException {
+        List<String> result = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(dir.toPath())) {
+            paths.filter(Files::isRegularFile)
+                .forEach(path -> result.add(dir.toPath().relativize(path).toString().replace(File.separatorChar, '/')));
+        }
+        Collections.sort(result);
+        return result;
+    }
+
+    private List<String> slotFile(File src) throws IOException {
+        File dest = new File(this.tempDir, "file.jar");
+        new BootSlotter().slot(src, dest);
+        return describe(dest);
+    }
+
+    private List<String> slotStream(File src) throws IOException {
+        File dest = new File(this.tempDir, "stream.jar");
+        try (InputStream in = Files.newInputStream(src.toPath());
+             OutputStream out = Files.newOutputStream(dest.toPath())) {
+            new BootSlotter().slot(in, out);
+        }
+        return describe(dest);
+    }
+
+    // 通过输入流处理时不知道 main class 所在的目录, 不会跳过这些目录条目, 只比较文件
+    private static List<String> describe(File jar) throws IOException {
+        List<String> result = new ArrayList<>();
+        try (ZipFile zipFile = new ZipFile(jar)) {
+            for (ZipEntry entry : Collections.list(zipFile.entries())) {
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                CRC32 crc = new CRC32();
+                try (InputStream in = zipFile.getInputStream(entry)) {
+                    byte[] buffer = new byte[1024];
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        crc.update(buffer, 0, read);
+                    }
+                }
+                result.add(entry.getName() + ":" + crc.getValue());
+            }
+        }
+        return result;
+    }
 }
@@ -0,0 +1,115 @@
+package dev.dong4j.zeka.maven.plugin.boot.boost;
+
+import org.apache.commons.compress.archivers.jar.JarArchiveOutputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * <p>Description: </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17 23:58
+ * @since 2026.1.0
+ */
+class IOKitTest {
+
+    private static final String ANT = "sample/embed/**";
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void embeddedEntriesAreCachedPerClassLoader() throws IOException {
+        File classes = this.classes();
+        try (URLClassLoader first = new URLClassLoader(new URL[]{classes.toURI().toURL()}, null);
+             URLClassLoader second = new URLClassLoader(new URL[]{classes.toURI().toURL()}, null)) {
+            List<IOKit.EmbeddedEntry> cached = withContextClassLoader(first, () -> IOKit.embedded(ANT));
+            Assertions.assertSame(cached, withContextClassLoader(first, () -> IOKit.embedded(ANT)));
+            Assertions.assertNotSame(cached, withContextClassLoader(second, () -> IOKit.embedded(ANT)));
+        }
+    }
+
+    @Test
+    void cachedEmbedWritesOriginalContent() throws IOException {
+        File classes = this.classes();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classes.toURI().toURL()}, null)) {
+            // 第一次调用扫描并压缩, 第二次使用缓存, 两次写入的 jar 必须完全一致
+            byte[] uncached = withContextClassLoader(classLoader, this::embed);
+            byte[] cached = withContextClassLoader(classLoader, this::embed);
+            Assertions.assertArrayEquals(uncached, cached);
+
+            File jar = new File(this.tempDir, "embedded.jar");
+            Files.write(jar.toPath(), cached);
+            List<String> names = new ArrayList<>();
+            try (ZipFile zipFile = new ZipFile(jar)) {
+                for (ZipEntry entry : Collections.list(zipFile.entries())) {
+                    names.add(entry.getName());
+                    if (entry.isDirectory()) {
+                        continue;
+                    }
+                    ByteArrayOutputStream content = new ByteArrayOutputStream();
+                    try (InputStream in = zipFile.getInputStream(entry)) {
+                        IOKit.transfer(in, content);
+                    }
+                    Assertions.assertArrayEquals(Files.readAllBytes(new File(classes, entry.getName()).toPath()), content.toByteArray());
+                }
+            }
+            Assertions.assertEquals(Arrays.asList("sample/embed/", "sample/embed/A.class", "sample/embed/B.class",
+                "sample/embed/inner/", "sample/embed/inner/C.class"), names);
+        }
+    }
+
+    private byte[] embed() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JarArchiveOutputStream zos = new JarArchiveOutputStream(bytes)) {
+            IOKit.embed(ANT, zos, 1767225600000L);
+        }
+        return bytes.toByteArray();
+    }
+
+    private File classes() throws IOException {
+        File classes = new File(this.tempDir, "classes");
+        for (String name : new String[] {"sample/embed/B.class", "sample/embed/A.class", "sample/embed/inner/C.class"}) {
+            File file = new File(classes, name);
+            file.getParentFile().mkdirs();
+            Files.write(file.toPath(), (name + " content").getBytes());
+        }
+        return classes;
+    }
+
+    private static <T> T withContextClassLoader(ClassLoader classLoader, IOCallable<T> action) throws IOException {
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            return action.call();
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IOCallable<T> {
+
+        T call() throws IOException;
+
+    }
+
+}
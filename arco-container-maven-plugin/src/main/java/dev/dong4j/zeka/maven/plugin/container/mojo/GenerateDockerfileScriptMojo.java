@@ -59,6 +59,8 @@ public class GenerateDockerfileScriptMojo extends ZekaMavenPluginAbstractMojo {
     private static final String DOCKERFILE_B = "META-INF/docker/Dockerfile-B";
     private static final String DOCKERFILE_M = "META-INF/docker/Dockerfile-M";
     private static final String DOCKERFILE_S = "META-INF/docker/Dockerfile-S";
+    /** 按 layers 目录分层复制, 需要 jar-repackage 开启 jar.repackage.layered */
+    private static final String DOCKERFILE_L = "META-INF/docker/Dockerfile-L";
     private static final String DOCKER_COMPOSE = "META-INF/docker/docker-compose.yml";
 
     /** PACKAGE_NAME */
@@ -104,6 +106,7 @@ public class GenerateDockerfileScriptMojo extends ZekaMavenPluginAbstractMojo {
             new FileWriter(this.outputFile, replaceMap).write(DOCKERFILE_M, true);
             new FileWriter(this.outputFile, replaceMap).write(DOCKERFILE_B, true);
             new FileWriter(this.outputFile, replaceMap).write(DOCKERFILE_S, true);
+            new FileWriter(this.outputFile, replaceMap).write(DOCKERFILE_L, true);
             new FileWriter(this.outputFile, replaceMap).write(DOCKER_COMPOSE, true);
         }
         this.buildContext.refresh(this.outputFile);
@@ -50,6 +50,8 @@ public final class Plugins {
     public static final String SKIP_COMPILED_ID = "compiled.id.skip";
     /** SKIP_JAR_REPACKAGE */
     public static final String SKIP_JAR_REPACKAGE = "jar.repackage.skip";
+    /** SKIP_CDS_ARCHIVE */
+    public static final String SKIP_CDS_ARCHIVE = "cds.archive.skip";
     /** SKIP_MAKESELF */
     public static final String SKIP_MAKESELF = "makeself.skip";
     /** SKIP_DELETE_TEMP_FILE */